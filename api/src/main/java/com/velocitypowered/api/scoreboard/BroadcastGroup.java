@@ -0,0 +1,95 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * A proxy scoreboard shared by any number of players. Objectives and teams of a group
+ * are only stored once and every change is encoded once per protocol version, no matter
+ * how many players are viewing it. Members still have their own proxy scoreboard, which
+ * is displayed alongside all groups they are in. Names of objectives and teams must not
+ * collide with ones registered into the member's own proxy scoreboard or other groups.
+ * <p>
+ * Team properties can be overridden for individual viewers, which keeps teams shared even
+ * when a few viewers need to see them differently.
+ */
+public interface BroadcastGroup extends ProxyScoreboard {
+
+    /**
+     * Adds player to this group and sends all objectives and teams of this group to them.
+     * If the player is already in this group, nothing happens.
+     *
+     * @param   player
+     *          Player to add
+     */
+    void addViewer(@NotNull Player player);
+
+    /**
+     * Removes player from this group and unregisters all objectives and teams of this group
+     * from them. If the player is not in this group, nothing happens.
+     *
+     * @param   player
+     *          Player to remove
+     */
+    void removeViewer(@NotNull Player player);
+
+    /**
+     * Overrides properties of a team of this group for one viewer, such as a relational prefix
+     * or a name tag hidden only for that player. Properties not set in the override keep following
+     * the team. The team is still stored once, only the override is kept per viewer.
+     * Overrides are removed when the team is unregistered or the player leaves this group.
+     *
+     * @param   player
+     *          Viewer to override properties for
+     * @param   teamName
+     *          Name of team of this group
+     * @param   override
+     *          Properties to override
+     * @throws  IllegalArgumentException
+     *          If this group has no such team or the player is not viewing this group
+     */
+    void setTeamOverride(@NotNull Player player, @NotNull String teamName,
+                         @NotNull Consumer<ProxyTeam.PropertyBuilder> override) throws IllegalArgumentException;
+
+    /**
+     * Removes override of team properties for one viewer, sending them the properties of the team.
+     * If there is no such override, nothing happens.
+     *
+     * @param   player
+     *          Viewer to remove override of
+     * @param   teamName
+     *          Name of team of this group
+     */
+    void removeTeamOverride(@NotNull Player player, @NotNull String teamName);
+
+    /**
+     * Returns players currently viewing this group.
+     *
+     * @return  Players viewing this group
+     */
+    @NotNull
+    Collection<Player> getViewers();
+}
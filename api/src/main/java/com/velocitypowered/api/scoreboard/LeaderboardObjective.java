@@ -0,0 +1,67 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A proxy objective which keeps its scores ranked and only sends the highest ones to the player.
+ * Every score is stored on the proxy, but only the top {@link #getDisplayLimit()} are displayed.
+ * When a score enters or leaves the displayed range, only the scores crossing its boundary
+ * are sent, which makes it suitable for leaderboards with many holders shown in the sidebar.
+ * <p>
+ * Scores are ranked the same way the client orders them, highest score first and holders
+ * with equal score by name.
+ *
+ * @see     ProxyObjective.Builder#leaderboard(int)
+ */
+public interface LeaderboardObjective extends ProxyObjective {
+
+    /**
+     * Returns maximum amount of scores displayed to the player.
+     *
+     * @return  Maximum amount of displayed scores
+     */
+    int getDisplayLimit();
+
+    /**
+     * Returns position of given holder, {@code 0} being the highest score.
+     *
+     * @param   holder
+     *          Score holder name
+     * @return  Position of the holder
+     * @throws  IllegalArgumentException
+     *          If this objective has no score with given holder
+     */
+    int getRank(@NotNull String holder) throws IllegalArgumentException;
+
+    /**
+     * Returns scores with the highest values, highest first.
+     *
+     * @param   count
+     *          Maximum amount of scores to return
+     * @return  Up to {@code count} highest scores
+     */
+    @NotNull
+    List<ProxyScore> getTopScores(int count);
+}
@@ -99,6 +99,34 @@ public interface ProxyObjective extends Objective {
     @NotNull
     ProxyScore setScore(@NotNull String holder, @NotNull Consumer<ProxyScore.Builder> consumer);
 
+    /**
+     * Sets value of score of given holder. If the score does not exist, it is created without
+     * a display name and number format. If it exists, only the value is changed and display name
+     * and number format are kept. Unlike {@link #setScore(String, Consumer)}, this does not
+     * create a builder, which makes it suitable for scores changing many times per second.
+     *
+     * @param   holder
+     *          Score holder name
+     * @param   value
+     *          New score value
+     * @return  The registered or updated score
+     * @see     #getScoreValue(String)
+     */
+    @NotNull
+    ProxyScore setScore(@NotNull String holder, int value);
+
+    /**
+     * Returns value of score of given holder.
+     *
+     * @param   holder
+     *          Score holder name
+     * @return  Value of the score
+     * @throws  IllegalArgumentException
+     *          If this objective has no score with given holder
+     * @see     #setScore(String, int)
+     */
+    int getScoreValue(@NotNull String holder) throws IllegalArgumentException;
+
     /**
      * Removes score of given holder.
      * 
@@ -153,5 +181,18 @@ public interface ProxyObjective extends Objective {
          */
         @NotNull
         Builder numberFormat(@Nullable NumberFormat numberFormat);
+
+        /**
+         * Makes this objective a leaderboard, which only displays scores with the highest values.
+         * Registered objective will be a {@link LeaderboardObjective}.
+         *
+         * @param   displayLimit
+         *          Maximum amount of scores displayed to the player
+         * @return  this, for chaining
+         * @throws  IllegalArgumentException
+         *          If limit is not positive
+         */
+        @NotNull
+        Builder leaderboard(int displayLimit) throws IllegalArgumentException;
     }
 }
@@ -97,6 +97,26 @@ public interface ProxyScoreboard extends Scoreboard {
         return registerObjective(builder);
     }
 
+    /**
+     * Registers leaderboard objective into this scoreboard.
+     *
+     * @param   name
+     *          Objective name
+     * @param   displayLimit
+     *          Maximum amount of scores displayed to the player
+     * @param   consumer
+     *          Objective parameters
+     * @return  Registered objective
+     * @see     ProxyObjective.Builder#leaderboard(int)
+     */
+    @NotNull
+    default LeaderboardObjective createLeaderboard(@NotNull String name, int displayLimit, @NotNull Consumer<ProxyObjective.Builder> consumer) {
+        ProxyObjective.Builder builder = objectiveBuilder(name);
+        consumer.accept(builder);
+        builder.leaderboard(displayLimit);
+        return (LeaderboardObjective) registerObjective(builder);
+    }
+
     /**
      * Unregisters objective by name.
      *
@@ -126,6 +146,17 @@ public interface ProxyScoreboard extends Scoreboard {
     @NotNull
     Collection<ProxyTeam> getTeams();
 
+    /**
+     * Returns proxy team containing given entry. If the entry is not in any team, returns {@code null}.
+     *
+     * @param   entry
+     *          Entry to find team of
+     * @return  Team containing given entry, {@code null} if the entry is not in any team
+     */
+    @Override
+    @Nullable
+    ProxyTeam getTeamByEntry(@NotNull String entry);
+
     /**
      * Creates a new team builder.
      *
@@ -183,4 +214,25 @@ public interface ProxyScoreboard extends Scoreboard {
      *          If no such team exists
      */
     void unregisterTeam(@NotNull String teamName) throws IllegalStateException;
+
+    /**
+     * Sends all pending changes of this scoreboard to the player. Changes are only held back
+     * if packet coalescing is enabled in the plugin configuration, in which case they are
+     * otherwise flushed automatically once per tick. If coalescing is disabled, this does nothing.
+     */
+    void flush();
+
+    /**
+     * Applies multiple changes to this scoreboard and sends them to the player together.
+     * Packets produced by the changes are collected until the consumer returns, updates
+     * superseded by a later change in the same batch (such as a score set and then removed)
+     * are dropped and the rest is written with a single flush. Batches may be nested.
+     * <p>
+     * Changes are applied immediately, the batch only affects when they are sent. If the
+     * consumer throws an exception, changes made until then are still sent.
+     *
+     * @param   changes
+     *          Changes to apply to this scoreboard
+     */
+    void batch(@NotNull Consumer<ProxyScoreboard> changes);
 }
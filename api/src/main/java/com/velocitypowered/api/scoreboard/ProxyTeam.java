@@ -141,6 +141,32 @@ public interface ProxyTeam extends Team {
      */
     void removeEntry(@NotNull String entry) throws IllegalArgumentException;
 
+    /**
+     * Adds multiple entries to this team. They will be removed from all other teams.
+     * Entries already in this team are skipped. All added entries are sent to the player
+     * in a single packet.
+     *
+     * @param   entries
+     *          Entries to add
+     * @see     #addEntry(String)
+     * @see     #removeEntries(Collection)
+     */
+    void addEntries(@NotNull Collection<String> entries);
+
+    /**
+     * Removes multiple entries from this team. If any of the entries is not present, throws
+     * {@link IllegalArgumentException} without removing any of them. All removed entries are
+     * sent to the player in a single packet.
+     *
+     * @param   entries
+     *          Entries to remove
+     * @see     #removeEntry(String)
+     * @see     #addEntries(Collection)
+     * @throws  IllegalArgumentException
+     *          If any of given entries is not in this team
+     */
+    void removeEntries(@NotNull Collection<String> entries) throws IllegalArgumentException;
+
     /**
      * This is a builder for team properties.
      */
@@ -74,4 +74,14 @@ public interface Scoreboard {
      */
     @NotNull
     Collection<? extends Team> getTeams();
+
+    /**
+     * Returns team containing given entry. If the entry is not in any team, returns {@code null}.
+     *
+     * @param   entry
+     *          Entry to find team of
+     * @return  Team containing given entry, {@code null} if the entry is not in any team
+     */
+    @Nullable
+    Team getTeamByEntry(@NotNull String entry);
 }
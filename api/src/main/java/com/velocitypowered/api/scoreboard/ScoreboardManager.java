@@ -25,6 +25,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Consumer;
+
 /**
  * Entrypoint for the Velocity Scoreboard API.
  */
@@ -76,6 +78,28 @@ public abstract class ScoreboardManager {
     @NotNull
     public abstract Scoreboard getBackendScoreboard(@NotNull Player player);
 
+    /**
+     * Creates a new, empty broadcast group. Players can be added to it using
+     * {@link BroadcastGroup#addViewer(Player)}.
+     *
+     * @return  New broadcast group
+     */
+    @NotNull
+    public abstract BroadcastGroup createBroadcastGroup();
+
+    /**
+     * Creates a new shared objective without viewers. Players can be added to it using
+     * {@link SharedObjective#addViewer(Player)}.
+     *
+     * @param   name
+     *          Objective name
+     * @param   consumer
+     *          Objective parameters
+     * @return  New shared objective
+     */
+    @NotNull
+    public abstract SharedObjective createSharedObjective(@NotNull String name, @NotNull Consumer<ProxyObjective.Builder> consumer);
+
     /**
      * An exception indicating the plugin has been accessed before it has been registered.
      */
@@ -0,0 +1,119 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * An objective shared by any number of players, intended for values of every online player
+ * displayed to everyone, such as health below name or ping in tab list. Each holder only has
+ * a plain value, which is stored once no matter how many players are viewing the objective.
+ * A value change is encoded once per protocol version and sent to all viewers.
+ * <p>
+ * The objective behaves like an objective of a {@link BroadcastGroup}, its name must not collide
+ * with objectives registered into proxy scoreboards of viewers or other groups they are in.
+ */
+public interface SharedObjective {
+
+    /**
+     * Returns name of this objective.
+     *
+     * @return  name of this objective
+     */
+    @NotNull
+    String getName();
+
+    /**
+     * Sets value of given holder. If the value did not change, nothing is sent.
+     *
+     * @param   holder
+     *          Score holder name
+     * @param   value
+     *          New value
+     */
+    void setScore(@NotNull String holder, int value);
+
+    /**
+     * Returns value of given holder.
+     *
+     * @param   holder
+     *          Score holder name
+     * @return  Value of the holder
+     * @throws  IllegalArgumentException
+     *          If the holder has no value
+     */
+    int getScoreValue(@NotNull String holder) throws IllegalArgumentException;
+
+    /**
+     * Returns whether given holder has a value.
+     *
+     * @param   holder
+     *          Score holder name
+     * @return  {@code true} if the holder has a value, {@code false} if not
+     */
+    boolean hasScore(@NotNull String holder);
+
+    /**
+     * Removes value of given holder.
+     *
+     * @param   holder
+     *          Score holder name
+     * @throws  IllegalArgumentException
+     *          If the holder has no value
+     */
+    void removeScore(@NotNull String holder) throws IllegalArgumentException;
+
+    /**
+     * Returns amount of holders with a value.
+     *
+     * @return  Amount of holders
+     */
+    int getScoreCount();
+
+    /**
+     * Adds player as a viewer and sends this objective with all values to them.
+     * If the player is already viewing this objective, nothing happens.
+     *
+     * @param   player
+     *          Player to add
+     */
+    void addViewer(@NotNull Player player);
+
+    /**
+     * Removes player from viewers and unregisters this objective from them.
+     * If the player is not viewing this objective, nothing happens.
+     *
+     * @param   player
+     *          Player to remove
+     */
+    void removeViewer(@NotNull Player player);
+
+    /**
+     * Returns players currently viewing this objective.
+     *
+     * @return  Players viewing this objective
+     */
+    @NotNull
+    Collection<Player> getViewers();
+}
@@ -37,7 +37,7 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ChannelInjection extends ChannelDuplexHandler {
 
-    private final VelocityScoreboardAPI plugin;
+    private final Player player;
     private final DownstreamScoreboard downstreamScoreboard;
     private final VelocityScoreboard proxyScoreboard;
 
@@ -46,11 +46,9 @@ public class ChannelInjection extends ChannelDuplexHandler {
      *
      * @param   player
      *          Player to inject
-     * @param   plugin
-     *          Plugin instance
      */
-    public ChannelInjection(@NotNull Player player, @NotNull VelocityScoreboardAPI plugin) {
-        this.plugin = plugin;
+    public ChannelInjection(@NotNull Player player) {
+        this.player = player;
         downstreamScoreboard = ((VelocityScoreboardManager) ScoreboardManager.getInstance()).getBackendScoreboard(player);
         proxyScoreboard = ((VelocityScoreboardManager) ScoreboardManager.getInstance()).getProxyScoreboard(player);
     }
@@ -61,7 +59,22 @@ public class ChannelInjection extends ChannelDuplexHandler {
         if (packet instanceof JoinGamePacket) {
             downstreamScoreboard.clear();
             proxyScoreboard.freeze();
-            plugin.getServer().getScheduler().buildTask(plugin, proxyScoreboard::resend).schedule();
+            context.channel().eventLoop().execute(proxyScoreboard::resend);
         }
     }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext context) throws Exception {
+        if (context.channel().isWritable()) {
+            proxyScoreboard.continueResend();
+        }
+        super.channelWritabilityChanged(context);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext context) throws Exception {
+        proxyScoreboard.cancelResend();
+        ((VelocityScoreboardManager) ScoreboardManager.getInstance()).release(player);
+        super.channelInactive(context);
+    }
 }
\ No newline at end of file
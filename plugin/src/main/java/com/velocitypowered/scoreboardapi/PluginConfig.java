@@ -25,6 +25,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 @SuppressWarnings("FieldCanBeLocal")
 @Configuration
@@ -52,6 +54,36 @@ public class PluginConfig {
     @Comment("Whether to log invalid packets received from downstream servers")
     private boolean printInvalidDownstreamPacketWarnings = true;
 
+    @Comment("Whether to drop scoreboard packets from backend servers which would not change anything for the player")
+    private boolean dropRedundantBackendPackets = true;
+
+    @Comment("Whether texts and number formats received from backend servers should be kept as encoded bytes and only decoded when needed")
+    private boolean compactBackendScoreboardStorage = false;
+
+    @Comment("Whether identical team properties and objective titles from the same backend server should be shared between players")
+    private boolean shareBackendScoreboardState = false;
+
+    @Comment("Whether entry, team, objective and score holder names read from packets should share a single instance across all players")
+    private boolean internScoreboardNames = false;
+
+    @Comment("Whether proxy scoreboard packets should be collected and sent once per tick instead of immediately")
+    private boolean coalesceScoreboardPackets = false;
+
+    @Comment("Backend servers whose score, team and objective updates should be collected and only the latest value sent once per tick")
+    private List<String> coalesceBackendPacketsServers = new ArrayList<>();
+
+    @Comment("Whether proxy scoreboard packets sent together should be applied in a single client tick (1.19.4+ players)")
+    private boolean bundleScoreboardPackets = false;
+
+    @Comment("Whether proxy objectives without a display slot and teams without entries should only be sent to players once they become visible")
+    private boolean lazyScoreboardMaterialization = false;
+
+    @Comment("Whether to throw an error when scoreboard packets are sent outside of player's network thread (for debugging)")
+    private boolean verifyThreadConfinement = false;
+
+    @Comment("Maximum time in milliseconds to hold back proxy scoreboard packets on server switch before resending the scoreboard anyway")
+    private long freezeTimeoutMillis = 5000;
+
     private PluginConfig() {
     }
 
@@ -72,4 +104,45 @@ public class PluginConfig {
         return printInvalidDownstreamPacketWarnings;
     }
 
+    public boolean isDropRedundantBackendPackets() {
+        return dropRedundantBackendPackets;
+    }
+
+    public boolean isCompactBackendScoreboardStorage() {
+        return compactBackendScoreboardStorage;
+    }
+
+    public boolean isShareBackendScoreboardState() {
+        return shareBackendScoreboardState;
+    }
+
+    public boolean isInternScoreboardNames() {
+        return internScoreboardNames;
+    }
+
+    public boolean isCoalesceScoreboardPackets() {
+        return coalesceScoreboardPackets;
+    }
+
+    @NotNull
+    public List<String> getCoalesceBackendPacketsServers() {
+        return coalesceBackendPacketsServers;
+    }
+
+    public boolean isBundleScoreboardPackets() {
+        return bundleScoreboardPackets;
+    }
+
+    public boolean isLazyScoreboardMaterialization() {
+        return lazyScoreboardMaterialization;
+    }
+
+    public boolean isVerifyThreadConfinement() {
+        return verifyThreadConfinement;
+    }
+
+    public long getFreezeTimeoutMillis() {
+        return freezeTimeoutMillis;
+    }
+
 }
@@ -26,10 +26,15 @@ import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 import com.velocitypowered.api.scoreboard.Scoreboard;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
+import com.velocitypowered.proxy.data.NameTable;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamInterner;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamStatistics;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+
 public class VSACommand implements SimpleCommand {
 
     private final ProxyServer server;
@@ -46,7 +51,9 @@ public class VSACommand implements SimpleCommand {
             return;
         }
         String[] args = invocation.arguments();
-        if (args.length == 2) {
+        if (args.length == 1 && args[0].equalsIgnoreCase("stats")) {
+            sendStatistics(sender);
+        } else if (args.length == 2) {
             if (args[0].equalsIgnoreCase("dump")) {
                 Player player = server.getPlayer(args[1]).orElse(null);
                 if (player != null) {
@@ -64,7 +71,29 @@ public class VSACommand implements SimpleCommand {
                 }
             }
         } else {
-            sender.sendMessage(Component.text("Usage: /vsa dump <player>"));
+            sender.sendMessage(Component.text("Usage: /vsa dump <player> | /vsa stats"));
+        }
+    }
+
+    private void sendStatistics(@NotNull CommandSource sender) {
+        Map<String, Long> received = DownstreamStatistics.getReceivedPackets();
+        Map<String, Long> dropped = DownstreamStatistics.getDroppedPackets();
+        if (received.isEmpty()) {
+            sender.sendMessage(Component.text("No scoreboard packets were received from backend servers yet"));
+            return;
+        }
+        sender.sendMessage(Component.text("Redundant backend scoreboard packets dropped:"));
+        received.forEach((server, count) -> {
+            long droppedCount = dropped.getOrDefault(server, 0L);
+            sender.sendMessage(Component.text(String.format("  %s: %d / %d (%.1f%%)", server, droppedCount, count, droppedCount * 100.0 / count)));
+        });
+        if (DownstreamInterner.isEnabled()) {
+            sender.sendMessage(Component.text("Team properties and titles shared between players:"));
+            DownstreamInterner.getSharedValues().forEach((server, count) ->
+                    sender.sendMessage(Component.text("  " + server + ": " + count)));
+        }
+        if (NameTable.isEnabled()) {
+            sender.sendMessage(Component.text("Names in shared name table: " + NameTable.size()));
         }
     }
 }
@@ -32,8 +32,12 @@ import com.velocitypowered.api.proxy.ProxyServer;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
 import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
 import com.velocitypowered.proxy.data.LoggerManager;
+import com.velocitypowered.proxy.data.NameTable;
+import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.scoreboard.VelocityScoreboard;
 import com.velocitypowered.proxy.scoreboard.VelocityScoreboardManager;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamInterner;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
 import org.bstats.velocity.Metrics;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.event.Level;
@@ -68,6 +72,16 @@ public class VelocityScoreboardAPI implements ScoreboardEventSource {
         this.pluginConfig = PluginConfig.load(configDirectory);
 
         LoggerManager.setLogInvalidPackets(pluginConfig.isPrintInvalidDownstreamPacketWarnings());
+        DownstreamScoreboard.setDropRedundantPackets(pluginConfig.isDropRedundantBackendPackets());
+        TextHolderImpl.setRetainEncoded(pluginConfig.isCompactBackendScoreboardStorage());
+        DownstreamInterner.setEnabled(pluginConfig.isShareBackendScoreboardState());
+        NameTable.setEnabled(pluginConfig.isInternScoreboardNames());
+        VelocityScoreboard.setCoalescePackets(pluginConfig.isCoalesceScoreboardPackets());
+        VelocityScoreboard.setCoalescedServers(pluginConfig.getCoalesceBackendPacketsServers());
+        VelocityScoreboard.setBundlePackets(pluginConfig.isBundleScoreboardPackets());
+        VelocityScoreboard.setLazyMaterialization(pluginConfig.isLazyScoreboardMaterialization());
+        VelocityScoreboard.setVerifyConfinement(pluginConfig.isVerifyThreadConfinement());
+        VelocityScoreboard.setFreezeTimeout(pluginConfig.getFreezeTimeoutMillis());
 
         CommandManager cmd = server.getCommandManager();
         cmd.register(cmd.metaBuilder("vsa").build(), new VSACommand(server));
@@ -112,15 +126,17 @@ public class VelocityScoreboardAPI implements ScoreboardEventSource {
     }
 
     /**
-     * Injects custom channel duplex handler to listen to JoinGame packet.
+     * Binds scoreboards to player's channel and injects custom channel duplex handler
+     * to listen to JoinGame packet.
      *
      * @param e Login event
      */
     @Subscribe
     public void onJoin(PostLoginEvent e) {
         if (!enabled) return;
+        ((VelocityScoreboardManager) ScoreboardManager.getInstance()).bind(e.getPlayer());
         ((ConnectedPlayer) e.getPlayer()).getConnection().getChannel().pipeline().addBefore(
-                "handler", "VelocityPacketAPI", new ChannelInjection(e.getPlayer(), this)
+                "handler", "VelocityPacketAPI", new ChannelInjection(e.getPlayer())
         );
     }
 
@@ -0,0 +1,113 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a list with {@link OrderedStringSet} for team entries of the sizes around
+ * the threshold of {@link StringCollection}. Entries are compared with copies, like names
+ * read from packets, and half of the lookups miss.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringCollectionBenchmark {
+
+    @Param({"4", "8", "16", "32"})
+    private int size;
+
+    private String[] entries;
+    private String[] probes;
+    private List<String> list;
+    private OrderedStringSet set;
+
+    @Setup
+    public void setUp() {
+        entries = new String[size];
+        probes = new String[size * 2];
+        for (int i = 0; i < size; i++) {
+            entries[i] = "Player_" + (i * 7919 % 1000);
+            probes[i] = new String(entries[i]);
+            probes[size + i] = "x" + entries[i];
+        }
+        list = new ArrayList<>(Arrays.asList(entries));
+        set = new OrderedStringSet(Arrays.asList(entries));
+    }
+
+    @Benchmark
+    public int containsList() {
+        return contains(list);
+    }
+
+    @Benchmark
+    public int containsSet() {
+        return contains(set);
+    }
+
+    @Benchmark
+    public int addRemoveList() {
+        return addRemove(new ArrayList<>());
+    }
+
+    @Benchmark
+    public int addRemoveSet() {
+        return addRemove(new OrderedStringSet(size));
+    }
+
+    private int contains(Collection<String> collection) {
+        int found = 0;
+        for (String probe : probes) {
+            if (collection.contains(probe)) found++;
+        }
+        return found;
+    }
+
+    private int addRemove(Collection<String> collection) {
+        // Same checks as StringCollection performs when adding entries one by one
+        for (String entry : entries) {
+            if (!collection.contains(entry)) collection.add(entry);
+        }
+        for (String entry : entries) {
+            collection.remove(entry);
+        }
+        return collection.size();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.event.scoreboard.ScoreboardEventSource;
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.api.scoreboard.ProxyObjective;
+import com.velocitypowered.proxy.connection.MinecraftConnection;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.data.RawTextHolderProvider;
+import com.velocitypowered.proxy.protocol.StateRegistry;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Score value updates of a scoreboard of a single viewer, sent from the event loop of the
+ * viewer. Run with the GC profiler (enabled in the build) to see allocations per update,
+ * the mocked connection accounts for part of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreUpdateBenchmark {
+
+    private EmbeddedChannel channel;
+    private ProxyObjective objective;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        new RawTextHolderProvider();
+        channel = new EmbeddedChannel();
+        MinecraftConnection connection = mock(MinecraftConnection.class, withSettings().stubOnly());
+        when(connection.eventLoop()).thenReturn(channel.eventLoop());
+        when(connection.getChannel()).thenReturn(channel);
+        when(connection.getState()).thenReturn(StateRegistry.PLAY);
+        doNothing().when(connection).write(any());
+        ConnectedPlayer player = mock(ConnectedPlayer.class, withSettings().stubOnly());
+        when(player.getConnection()).thenReturn(connection);
+        when(player.getProtocolVersion()).thenReturn(VelocityScoreboard.MAXIMUM_SUPPORTED_VERSION);
+        VelocityScoreboard scoreboard = new VelocityScoreboard(mock(ScoreboardEventSource.class), player, mock(DownstreamScoreboard.class));
+        objective = scoreboard.registerObjective(scoreboard.objectiveBuilder("bench").displaySlot(DisplaySlot.SIDEBAR));
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public void setScore() {
+        objective.setScore("holder", value++);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import com.velocitypowered.proxy.connection.MinecraftConnection;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.packet.BundleDelimiterPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An ordered packet queue which collapses superseded updates. Packets which only update
+ * a value (objective update, team update, score set/reset and display slot) are keyed by
+ * (packet kind, objective / team name, holder) and the last written value replaces the
+ * previous one in place. Packets changing the structure of the scoreboard (registering and
+ * unregistering objectives or teams, resetting scores in all objectives) act as a barrier,
+ * after which no previous update can be replaced anymore, so the client always sees
+ * the same final state as it would without coalescing. Team entry changes are kept in order.
+ * <p>
+ * This class is not thread-safe, callers are responsible for synchronization.
+ */
+public class CoalescingPacketQueue {
+
+    /** Maximum amount of packets in a single bundle accepted by the client */
+    private static final int MAXIMUM_BUNDLE_SIZE = 4096;
+
+    /** Packets in the order they will be written */
+    private final List<MinecraftPacket> packets = new ArrayList<>();
+
+    /** Position of replaceable packets in the list */
+    private final Map<Key, Integer> positions = new HashMap<>();
+
+    /**
+     * Adds packet to the queue, replacing a previous update of the same value if present.
+     *
+     * @param   packet
+     *          Packet to add
+     */
+    public void add(@NotNull MinecraftPacket packet) {
+        Key key = keyOf(packet);
+        if (key == null) {
+            if (isBarrier(packet)) positions.clear();
+            packets.add(packet);
+            return;
+        }
+        Integer position = positions.get(key);
+        if (position != null) {
+            packets.set(position, packet);
+        } else {
+            positions.put(key, packets.size());
+            packets.add(packet);
+        }
+    }
+
+    /**
+     * Returns {@code true} if there are no pending packets, {@code false} if there are.
+     *
+     * @return  {@code true} if there are no pending packets, {@code false} if there are
+     */
+    public boolean isEmpty() {
+        return packets.isEmpty();
+    }
+
+    /**
+     * Returns amount of pending packets.
+     *
+     * @return  amount of pending packets
+     */
+    public int size() {
+        return packets.size();
+    }
+
+    /**
+     * Discards all pending packets.
+     */
+    public void clear() {
+        packets.clear();
+        positions.clear();
+    }
+
+    /**
+     * Writes all pending packets into the connection with a single flush at the end
+     * and clears the queue.
+     *
+     * @param   connection
+     *          Connection to write packets to
+     * @param   bundle
+     *          Whether to wrap the packets in bundle delimiters
+     */
+    public void drain(@NotNull MinecraftConnection connection, boolean bundle) {
+        if (packets.isEmpty()) return;
+        writeTo(connection, bundle);
+        connection.flush();
+    }
+
+    /**
+     * Writes all pending packets into the connection without flushing it and clears the queue.
+     * If bundling is requested and there is more than one packet, packets are wrapped in bundle
+     * delimiters, split into multiple bundles if there are more than the client accepts in one.
+     *
+     * @param   connection
+     *          Connection to write packets to
+     * @param   bundle
+     *          Whether to wrap the packets in bundle delimiters
+     */
+    public void writeTo(@NotNull MinecraftConnection connection, boolean bundle) {
+        if (!bundle || packets.size() < 2) {
+            for (MinecraftPacket packet : packets) {
+                connection.delayedWrite(packet);
+            }
+            clear();
+            return;
+        }
+        for (int start = 0; start < packets.size(); start += MAXIMUM_BUNDLE_SIZE) {
+            int end = Math.min(start + MAXIMUM_BUNDLE_SIZE, packets.size());
+            connection.delayedWrite(BundleDelimiterPacket.INSTANCE);
+            for (int i = start; i < end; i++) {
+                connection.delayedWrite(packets.get(i));
+            }
+            connection.delayedWrite(BundleDelimiterPacket.INSTANCE);
+        }
+        clear();
+    }
+
+    /**
+     * Returns {@code true} if given packet only updates a value and can be replaced by a later
+     * update, {@code false} if it changes structure of the scoreboard and must keep its order.
+     *
+     * @param   packet
+     *          Packet to check
+     * @return  {@code true} if packet is replaceable, {@code false} if not
+     */
+    public static boolean isReplaceable(@NotNull MinecraftPacket packet) {
+        return keyOf(packet) != null;
+    }
+
+    @Nullable
+    private static Key keyOf(@NotNull MinecraftPacket packet) {
+        if (packet instanceof ScoreSetPacket set) {
+            return new Key(Kind.SCORE, set.getObjectiveName(), set.getScoreHolder());
+        }
+        if (packet instanceof ScorePacket score) {
+            if (score.getObjectiveName() == null) return null;
+            return new Key(Kind.SCORE, score.getObjectiveName(), score.getScoreHolder());
+        }
+        if (packet instanceof ScoreResetPacket reset) {
+            if (reset.getObjectiveName() == null) return null;
+            return new Key(Kind.SCORE, reset.getObjectiveName(), reset.getScoreHolder());
+        }
+        if (packet instanceof TeamPacket team) {
+            if (team.getAction() != TeamPacket.TeamAction.UPDATE) return null;
+            return new Key(Kind.TEAM, team.getName(), null);
+        }
+        if (packet instanceof ObjectivePacket objective) {
+            if (objective.getAction() != ObjectivePacket.ObjectiveAction.UPDATE) return null;
+            return new Key(Kind.OBJECTIVE, objective.getObjectiveName(), null);
+        }
+        if (packet instanceof DisplayObjectivePacket display) {
+            return new Key(Kind.DISPLAY, display.getPosition(), null);
+        }
+        return null;
+    }
+
+    private static boolean isBarrier(@NotNull MinecraftPacket packet) {
+        if (packet instanceof TeamPacket team) {
+            return team.getAction() == TeamPacket.TeamAction.REGISTER || team.getAction() == TeamPacket.TeamAction.UNREGISTER;
+        }
+        return true;
+    }
+
+    /**
+     * Kind of a replaceable packet.
+     */
+    private enum Kind {
+        OBJECTIVE, DISPLAY, SCORE, TEAM
+    }
+
+    /**
+     * Key identifying a replaceable value.
+     *
+     * @param   kind
+     *          Packet kind
+     * @param   name
+     *          Objective / team name or display slot
+     * @param   holder
+     *          Score holder for scores, {@code null} otherwise
+     */
+    private record Key(@NotNull Kind kind, @NotNull Object name, @Nullable String holder) {
+    }
+}
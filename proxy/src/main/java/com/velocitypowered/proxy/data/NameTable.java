@@ -0,0 +1,136 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Proxy-wide table of entry, team, objective and score holder names read from packets. The same
+ * player names are received by every player on a server, so instead of every scoreboard keeping
+ * its own copy, all of them share one instance. Shared instances compare equal by identity first,
+ * so lookups of names read from packets rarely need to compare characters. Each name also keeps
+ * its encoded form, so writing it is a plain copy.
+ * <p>
+ * Names are referenced weakly and forgotten once no scoreboard uses them. Reading a known name
+ * and writing a shared one do not lock, only adding a new name does.
+ */
+public class NameTable {
+
+    /** Whether names read from packets should be interned */
+    private static boolean enabled = false;
+
+    /** Shared names with their encoded form */
+    private static final WeakInterner<String> names = new WeakInterner<>(String::hashCode, String::equals, NameTable::encode);
+
+    /**
+     * Sets whether names read from packets should be interned.
+     *
+     * @param   enabled
+     *          {@code true} to intern names, {@code false} to keep a copy per packet
+     */
+    public static void setEnabled(boolean enabled) {
+        NameTable.enabled = enabled;
+    }
+
+    /**
+     * Returns whether names read from packets are interned.
+     *
+     * @return  {@code true} if names are interned, {@code false} if not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reads a string from buffer, returning the shared instance if interning is enabled.
+     *
+     * @param   buf
+     *          Buffer to read from
+     * @return  Read string
+     */
+    @NotNull
+    public static String readString(@NotNull ByteBuf buf) {
+        String value = ProtocolUtils.readString(buf);
+        return enabled ? intern(value) : value;
+    }
+
+    /**
+     * Writes a string into buffer. Shared names are written by copying their encoded form.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   value
+     *          String to write
+     */
+    public static void writeString(@NotNull ByteBuf buf, @NotNull String value) {
+        if (enabled) {
+            byte[] encoded = names.getEncoded(value);
+            if (encoded != null) {
+                buf.writeBytes(encoded);
+                return;
+            }
+        }
+        ProtocolUtils.writeString(buf, value);
+    }
+
+    /**
+     * Returns shared instance equal to given name, making it the shared instance if there is none.
+     *
+     * @param   value
+     *          Name to intern
+     * @return  Shared instance of the name
+     */
+    @NotNull
+    public static String intern(@NotNull String value) {
+        return names.intern(value);
+    }
+
+    /**
+     * Returns amount of names in the table.
+     *
+     * @return  Amount of names in the table
+     */
+    public static int size() {
+        return names.size();
+    }
+
+    /**
+     * Encodes name as a protocol string (length followed by UTF-8 bytes).
+     *
+     * @param   value
+     *          Name to encode
+     * @return  Encoded name
+     */
+    @NotNull
+    private static byte[] encode(@NotNull String value) {
+        ByteBuf tmp = Unpooled.buffer(value.length() + 5);
+        try {
+            ProtocolUtils.writeString(tmp, value);
+            return ByteBufUtil.getBytes(tmp);
+        } finally {
+            tmp.release();
+        }
+    }
+}
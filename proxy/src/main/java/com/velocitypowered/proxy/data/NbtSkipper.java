@@ -0,0 +1,127 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import io.netty.buffer.ByteBuf;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Skips over network NBT (1.20.2+, root tag without a name) without decoding it, so the
+ * encoded bytes can be copied and stored as they are.
+ */
+public class NbtSkipper {
+
+    /** Maximum nesting depth, same as the one used by the client */
+    private static final int MAXIMUM_DEPTH = 512;
+
+    private static final int END = 0;
+    private static final int BYTE = 1;
+    private static final int SHORT = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int FLOAT = 5;
+    private static final int DOUBLE = 6;
+    private static final int BYTE_ARRAY = 7;
+    private static final int STRING = 8;
+    private static final int LIST = 9;
+    private static final int COMPOUND = 10;
+    private static final int INT_ARRAY = 11;
+    private static final int LONG_ARRAY = 12;
+
+    /**
+     * Skips a nameless root tag, moving reader index of the buffer right after it.
+     *
+     * @param   buf
+     *          Buffer to skip the tag in
+     * @throws  IllegalArgumentException
+     *          If the data is not valid NBT
+     */
+    public static void skipTag(@NotNull ByteBuf buf) {
+        int type = buf.readByte();
+        if (type != END) skipPayload(buf, type, 0);
+    }
+
+    private static void skipPayload(@NotNull ByteBuf buf, int type, int depth) {
+        if (depth > MAXIMUM_DEPTH) throw new IllegalArgumentException("NBT is nested deeper than " + MAXIMUM_DEPTH + " levels");
+        switch (type) {
+            case BYTE -> buf.skipBytes(1);
+            case SHORT -> buf.skipBytes(2);
+            case INT, FLOAT -> buf.skipBytes(4);
+            case LONG, DOUBLE -> buf.skipBytes(8);
+            case BYTE_ARRAY -> skipArray(buf, 1);
+            case STRING -> buf.skipBytes(buf.readUnsignedShort());
+            case INT_ARRAY -> skipArray(buf, 4);
+            case LONG_ARRAY -> skipArray(buf, 8);
+            case LIST -> {
+                int elementType = buf.readByte();
+                int length = buf.readInt();
+                if (length < 0) throw new IllegalArgumentException("Negative NBT list length " + length);
+                int size = fixedSize(elementType);
+                if (size > 0) {
+                    skip(buf, (long) length * size);
+                } else if (length > 0) {
+                    if (elementType == END) throw new IllegalArgumentException("NBT list of end tags with non-zero length");
+                    for (int i = 0; i < length; i++) {
+                        skipPayload(buf, elementType, depth + 1);
+                    }
+                }
+            }
+            case COMPOUND -> {
+                int childType;
+                while ((childType = buf.readByte()) != END) {
+                    buf.skipBytes(buf.readUnsignedShort());
+                    skipPayload(buf, childType, depth + 1);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown NBT tag type " + type);
+        }
+    }
+
+    private static void skipArray(@NotNull ByteBuf buf, int elementSize) {
+        int length = buf.readInt();
+        if (length < 0) throw new IllegalArgumentException("Negative NBT array length " + length);
+        skip(buf, (long) length * elementSize);
+    }
+
+    private static void skip(@NotNull ByteBuf buf, long bytes) {
+        if (bytes > buf.readableBytes()) {
+            throw new IllegalArgumentException("NBT length " + bytes + " exceeds remaining " + buf.readableBytes() + " bytes");
+        }
+        buf.skipBytes((int) bytes);
+    }
+
+    /**
+     * Returns size of payload of given tag type if it is fixed, {@code 0} if it is not.
+     *
+     * @param   type
+     *          Tag type
+     * @return  Size of payload in bytes or {@code 0} if it is not fixed
+     */
+    private static int fixedSize(int type) {
+        return switch (type) {
+            case BYTE -> 1;
+            case SHORT -> 2;
+            case INT, FLOAT -> 4;
+            case LONG, DOUBLE -> 8;
+            default -> 0;
+        };
+    }
+}
@@ -25,8 +25,17 @@ import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.serializer.nbt.NBTComponentSerializer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class for encoding / decoding number formats. If the Scoreboard API gets merged into Velocity,
@@ -34,8 +43,16 @@ import org.jetbrains.annotations.NotNull;
  */
 public class NumberFormatEncoder {
 
+    /** Maximum amount of cached formats, cache is cleared once exceeded */
+    private static final int CACHE_LIMIT = 256;
+
+    /** Serialized styled and fixed formats indexed by protocol version ordinal */
+    private static final Map<NumberFormat, byte[][]> cache = new ConcurrentHashMap<>();
+
     /**
-     * Reads NumberFormat from buffer.
+     * Reads NumberFormat from buffer. Styled and fixed formats keep their encoded bytes
+     * if {@link TextHolderImpl#isRetainEncoded()} is enabled, use {@link #resolve(NumberFormat)}
+     * to get a decoded format.
      *
      * @param   buf
      *          Buffer to read from
@@ -48,12 +65,41 @@ public class NumberFormatEncoder {
         int format = ProtocolUtils.readVarInt(buf);
         return switch (format) {
             case 0 -> NumberFormat.BlankFormat.INSTANCE;
-            case 1 -> new NumberFormat.StyledFormat(NBTComponentSerializer.nbt().deserializeStyle(ProtocolUtils.readCompoundTag(buf, ver, null)));
-            case 2 -> new DeserializedFixedFormat(ComponentHolder.read(buf, ver));
+            case 1 -> TextHolderImpl.isRetainEncoded() ? readEncodedStyle(buf, ver) :
+                    new NumberFormat.StyledFormat(NBTComponentSerializer.nbt().deserializeStyle(ProtocolUtils.readCompoundTag(buf, ver, null)));
+            case 2 -> new DeserializedFixedFormat(TextHolderImpl.read(buf, ver));
             default -> throw new IllegalArgumentException("Unknown number format " + format);
         };
     }
 
+    @NotNull
+    private static EncodedStyledFormat readEncodedStyle(@NotNull ByteBuf buf, @NotNull ProtocolVersion ver) {
+        int start = buf.readerIndex();
+        NbtSkipper.skipTag(buf);
+        byte[] nbt = new byte[buf.readerIndex() - start];
+        buf.getBytes(start, nbt);
+        return new EncodedStyledFormat(nbt, ver);
+    }
+
+    /**
+     * Converts number format read from a packet into one of the API formats, decoding
+     * it if needed. Other formats are returned as they are.
+     *
+     * @param   format
+     *          Format to resolve
+     * @return  Decoded format
+     */
+    @Nullable
+    public static NumberFormat resolve(@Nullable NumberFormat format) {
+        if (format instanceof DeserializedFixedFormat fixed) {
+            return new NumberFormat.FixedFormat(fixed.text.getModernText());
+        }
+        if (format instanceof EncodedStyledFormat styled) {
+            return new NumberFormat.StyledFormat(styled.decode());
+        }
+        return format;
+    }
+
     /**
      * Writes a NumberFormat to buffer.
      *
@@ -65,6 +111,65 @@ public class NumberFormatEncoder {
      *          NumberFormat to write
      */
     public static void write(@NotNull ByteBuf buf, @NotNull ProtocolVersion ver, @NotNull NumberFormat format) {
+        if (format instanceof NumberFormat.StyledFormat || format instanceof NumberFormat.FixedFormat) {
+            writeCached(buf, ver, format);
+        } else {
+            encode(buf, ver, format);
+        }
+    }
+
+    /**
+     * Compares two number formats. Formats deserialized from packets are compared
+     * by their serialized form.
+     *
+     * @param   a
+     *          First format
+     * @param   b
+     *          Second format
+     * @param   ver
+     *          Protocol version both formats were read with
+     * @return  {@code true} if both formats are equal, {@code false} if not
+     */
+    public static boolean formatsEqual(@Nullable NumberFormat a, @Nullable NumberFormat b, @NotNull ProtocolVersion ver) {
+        if (a instanceof DeserializedFixedFormat fa && b instanceof DeserializedFixedFormat fb) {
+            return fa.text.contentEquals(fb.text, ver);
+        }
+        if (a instanceof EncodedStyledFormat sa && b instanceof EncodedStyledFormat sb) {
+            return sa.version == sb.version && Arrays.equals(sa.nbt, sb.nbt);
+        }
+        return Objects.equals(a, b);
+    }
+
+    /**
+     * Writes a NumberFormat serialized only once per protocol version.
+     *
+     * @param   buf
+     *          Buffer to write number format to
+     * @param   ver
+     *          Protocol version to write format for
+     * @param   format
+     *          Immutable NumberFormat to write
+     */
+    private static void writeCached(@NotNull ByteBuf buf, @NotNull ProtocolVersion ver, @NotNull NumberFormat format) {
+        byte[][] encoded = cache.get(format);
+        byte[] bytes = encoded == null ? null : encoded[ver.ordinal()];
+        if (bytes == null) {
+            ByteBuf tmp = Unpooled.buffer();
+            try {
+                encode(tmp, ver, format);
+                bytes = ByteBufUtil.getBytes(tmp);
+            } finally {
+                tmp.release();
+            }
+            byte[][] updated = encoded == null ? new byte[ProtocolVersion.values().length][] : encoded.clone();
+            updated[ver.ordinal()] = bytes;
+            if (cache.size() >= CACHE_LIMIT) cache.clear();
+            cache.put(format, updated);
+        }
+        buf.writeBytes(bytes);
+    }
+
+    private static void encode(@NotNull ByteBuf buf, @NotNull ProtocolVersion ver, @NotNull NumberFormat format) {
         if (format instanceof NumberFormat.BlankFormat) {
             ProtocolUtils.writeVarInt(buf, 0);
         } else if (format instanceof NumberFormat.StyledFormat styled) {
@@ -75,10 +180,33 @@ public class NumberFormatEncoder {
             new ComponentHolder(ver, fixed.component()).write(buf);
         } else if (format instanceof DeserializedFixedFormat deserialized) {
             ProtocolUtils.writeVarInt(buf, 2);
-            deserialized.holder.write(buf);
+            deserialized.text.write(buf, ver);
+        } else if (format instanceof EncodedStyledFormat styled) {
+            ProtocolUtils.writeVarInt(buf, 1);
+            if (styled.version == ver) {
+                buf.writeBytes(styled.nbt);
+            } else {
+                ProtocolUtils.writeBinaryTag(buf, ver, NBTComponentSerializer.nbt().serializeStyle(styled.decode()));
+            }
         } else throw new IllegalArgumentException("Unknown number format type " + format.getClass().getName());
     }
 
-    private record DeserializedFixedFormat(@NotNull ComponentHolder holder) implements NumberFormat {
+    private record DeserializedFixedFormat(@NotNull TextHolderImpl text) implements NumberFormat {
+    }
+
+    /**
+     * Styled format read from a packet, kept as encoded NBT.
+     *
+     * @param   nbt
+     *          Encoded style
+     * @param   version
+     *          Protocol version the style was encoded with
+     */
+    private record EncodedStyledFormat(@NotNull byte[] nbt, @NotNull ProtocolVersion version) implements NumberFormat {
+
+        @NotNull
+        private Style decode() {
+            return NBTComponentSerializer.nbt().deserializeStyle(ProtocolUtils.readCompoundTag(Unpooled.wrappedBuffer(nbt), version, null));
+        }
     }
 }
@@ -0,0 +1,231 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of strings which iterates in insertion order. Elements are stored in an array in the
+ * order they were added and an open-addressing table with linear probing points into it, so
+ * lookups do not need to allocate any nodes. Removed elements leave a hole in the array,
+ * which is compacted when the table is rebuilt.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class OrderedStringSet extends AbstractCollection<String> {
+
+    /** Slot value of an empty slot */
+    private static final int EMPTY = 0;
+
+    /** Slot value of a slot whose element was removed */
+    private static final int DELETED = -1;
+
+    /** Elements in insertion order, {@code null} for removed elements */
+    private String[] elements;
+
+    /** Hash table with element index + 1, {@link #EMPTY} or {@link #DELETED} */
+    private int[] slots;
+
+    /** Amount of used positions in {@link #elements}, including removed ones */
+    private int used;
+
+    /** Amount of present elements */
+    private int size;
+
+    /** Amount of {@link #DELETED} slots in the table */
+    private int deleted;
+
+    /**
+     * Constructs new empty set with capacity for given amount of elements.
+     *
+     * @param   expectedSize
+     *          Expected amount of elements
+     */
+    public OrderedStringSet(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        this.elements = new String[capacity];
+        this.slots = new int[tableSize(capacity)];
+    }
+
+    /**
+     * Constructs new set with given elements.
+     *
+     * @param   elements
+     *          Elements to add
+     */
+    public OrderedStringSet(@NotNull Collection<String> elements) {
+        this(elements.size());
+        for (String element : elements) {
+            add(element);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof String s && find(s) >= 0;
+    }
+
+    @Override
+    public boolean add(@NotNull String element) {
+        if (find(element) >= 0) return false;
+        if (used == elements.length || (used + 1 + deleted) * 2 > slots.length) {
+            rebuild();
+        }
+        elements[used] = element;
+        insertSlot(element, used);
+        used++;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof String s)) return false;
+        int slot = find(s);
+        if (slot < 0) return false;
+        elements[slots[slot] - 1] = null;
+        slots[slot] = DELETED;
+        deleted++;
+        size--;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        elements = new String[16];
+        slots = new int[tableSize(16)];
+        used = 0;
+        size = 0;
+        deleted = 0;
+    }
+
+    @Override
+    @NotNull
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+
+            private int index = advance(0);
+
+            /** Index of the element returned by the last call of {@link #next()}, {@code -1} if none */
+            private int last = -1;
+
+            private int advance(int from) {
+                while (from < used && elements[from] == null) from++;
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < used;
+            }
+
+            @Override
+            public String next() {
+                if (index >= used) throw new NoSuchElementException();
+                String element = elements[index];
+                last = index;
+                index = advance(index + 1);
+                return element;
+            }
+
+            @Override
+            public void remove() {
+                if (last == -1) throw new IllegalStateException("next() was not called or the element was already removed");
+                // Removal only leaves a hole in the array, so positions of following elements stay valid
+                OrderedStringSet.this.remove(elements[last]);
+                last = -1;
+            }
+        };
+    }
+
+    /**
+     * Returns the slot containing given element or {@code -1} if not present.
+     *
+     * @param   element
+     *          Element to find
+     * @return  Slot of the element or {@code -1} if not present
+     */
+    private int find(@NotNull String element) {
+        int mask = slots.length - 1;
+        int slot = hash(element) & mask;
+        while (true) {
+            int value = slots[slot];
+            if (value == EMPTY) return -1;
+            if (value != DELETED && elements[value - 1].equals(element)) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insertSlot(@NotNull String element, int index) {
+        int mask = slots.length - 1;
+        int slot = hash(element) & mask;
+        while (slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index + 1;
+    }
+
+    /**
+     * Compacts removed elements and rebuilds the table with capacity for at least
+     * twice the amount of present elements.
+     */
+    private void rebuild() {
+        int capacity = Math.max(16, size * 2);
+        String[] newElements = new String[capacity];
+        int index = 0;
+        for (int i = 0; i < used; i++) {
+            if (elements[i] != null) newElements[index++] = elements[i];
+        }
+        elements = newElements;
+        slots = new int[tableSize(capacity)];
+        used = index;
+        deleted = 0;
+        for (int i = 0; i < used; i++) {
+            insertSlot(elements[i], i);
+        }
+    }
+
+    /**
+     * Returns table size keeping load factor at most 0.5 for given capacity.
+     *
+     * @param   capacity
+     *          Element capacity
+     * @return  Power of two table size
+     */
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    private static int hash(@NotNull String element) {
+        int h = element.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import com.velocitypowered.proxy.protocol.StateRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Encodes packets into buffers ahead of time, so the same bytes can be written into
+ * multiple connections. The output is identical to what {@code MinecraftEncoder} produces
+ * (packet id followed by packet data), compression and framing are still applied
+ * by the pipeline of each connection.
+ */
+public class PacketEncoder {
+
+    /**
+     * Encodes clientbound play packet for given protocol version.
+     *
+     * @param   allocator
+     *          Allocator to allocate the buffer with
+     * @param   packet
+     *          Packet to encode
+     * @param   version
+     *          Protocol version to encode the packet for
+     * @return  Buffer with encoded packet, which must be released by the caller
+     */
+    @NotNull
+    public static ByteBuf encode(@NotNull ByteBufAllocator allocator, @NotNull MinecraftPacket packet, @NotNull ProtocolVersion version) {
+        int packetId = StateRegistry.PLAY.getProtocolRegistry(ProtocolUtils.Direction.CLIENTBOUND, version).getPacketId(packet);
+        ByteBuf buf = allocator.ioBuffer();
+        try {
+            ProtocolUtils.writeVarInt(buf, packetId);
+            packet.encode(buf, ProtocolUtils.Direction.CLIENTBOUND, version);
+            return buf;
+        } catch (Throwable t) {
+            buf.release();
+            throw t;
+        }
+    }
+}
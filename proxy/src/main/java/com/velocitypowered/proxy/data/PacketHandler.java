@@ -20,17 +20,20 @@
 
 package com.velocitypowered.proxy.data;
 
-import com.velocitypowered.api.proxy.Player;
-import com.velocitypowered.api.scoreboard.ProxyObjective;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.connection.backend.BackendPlaySessionHandler;
 import com.velocitypowered.proxy.connection.backend.VelocityServerConnection;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
 import com.velocitypowered.proxy.scoreboard.*;
-import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamInterner;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamStatistics;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 
 /**
@@ -40,41 +43,113 @@ import java.lang.reflect.Field;
  */
 public class PacketHandler {
 
-    /** Server connection field, because it is private */
-    private static final Field serverConn;
+    /** Getter of server connection field, because it is private */
+    private static final MethodHandle serverConn;
 
     static {
         try {
-            serverConn = BackendPlaySessionHandler.class.getDeclaredField("serverConn");
-            serverConn.setAccessible(true);
-        } catch (NoSuchFieldException e) {
+            Field field = BackendPlaySessionHandler.class.getDeclaredField("serverConn");
+            field.setAccessible(true);
+            serverConn = MethodHandles.lookup().unreflectGetter(field);
+        } catch (ReflectiveOperationException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Gets player from minecraft session handler.
+     * Gets server connection from minecraft session handler.
      *
      * @param   handler
-     *          Handler to get player from
-     * @return  Player this handler belongs to
+     *          Handler to get server connection from
+     * @return  Server connection this handler belongs to
      */
     @NotNull
-    private static Player getPlayer(@NotNull MinecraftSessionHandler handler) {
+    private static VelocityServerConnection getServerConnection(@NotNull MinecraftSessionHandler handler) {
         try {
-            VelocityServerConnection connection = (VelocityServerConnection) serverConn.get(handler);
-            return connection.getPlayer();
-        } catch (IllegalAccessException e) {
+            return (VelocityServerConnection) serverConn.invokeExact((BackendPlaySessionHandler) handler);
+        } catch (Throwable e) {
             throw new RuntimeException(e);
         }
     }
-    
-    private static DownstreamScoreboard getDownstream(@NotNull MinecraftSessionHandler handler) {
-        return ((VelocityScoreboardManager)ScoreboardManager.getInstance()).getBackendScoreboard(getPlayer(handler));
+
+    /**
+     * Returns interner sharing values between players on the server of given connection.
+     *
+     * @param   connection
+     *          Server connection that received the packet
+     * @return  Interner for the server and player's protocol version
+     */
+    @NotNull
+    private static DownstreamInterner getInterner(@NotNull VelocityServerConnection connection) {
+        return DownstreamInterner.get(connection.getServerInfo().getName(), connection.getPlayer().getProtocolVersion());
+    }
+
+    /**
+     * Counts received packet and returns {@code true} if it is redundant and should be dropped.
+     * Dropped packets are counted per backend server.
+     *
+     * @param   connection
+     *          Server connection that received the packet
+     * @param   redundant
+     *          Whether the packet would not change anything on the client
+     * @return  {@code true} if packet should be dropped, {@code false} if not
+     */
+    private static boolean dropRedundant(@NotNull VelocityServerConnection connection, boolean redundant) {
+        String server = connection.getServerInfo().getName();
+        DownstreamStatistics.packetReceived(server);
+        if (!redundant) return false;
+        DownstreamStatistics.packetDropped(server);
+        return true;
     }
 
-    private static VelocityScoreboard getProxy(@NotNull MinecraftSessionHandler handler) {
-        return ((VelocityScoreboardManager)ScoreboardManager.getInstance()).getProxyScoreboard(getPlayer(handler));
+    /**
+     * Gets proxy scoreboard of the player the server connection belongs to. It is read from the
+     * player's channel, falling back to the scoreboard manager if it was not bound yet.
+     *
+     * @param   connection
+     *          Server connection to get scoreboard of
+     * @return  Proxy scoreboard of the player
+     */
+    @NotNull
+    private static VelocityScoreboard getProxy(@NotNull VelocityServerConnection connection) {
+        ConnectedPlayer player = connection.getPlayer();
+        VelocityScoreboard scoreboard = player.getConnection().getChannel().attr(VelocityScoreboardManager.SCOREBOARD).get();
+        if (scoreboard != null) return scoreboard;
+        return ((VelocityScoreboardManager)ScoreboardManager.getInstance()).getProxyScoreboard(player);
+    }
+
+    /**
+     * Flushes coalesced proxy packets if coalescing is enabled, so they reach the player
+     * before the backend packet that is about to be forwarded.
+     *
+     * @param   proxy
+     *          Proxy scoreboard of the player
+     */
+    private static void flushPending(@NotNull VelocityScoreboard proxy) {
+        if (VelocityScoreboard.isCoalescePackets()) proxy.flushProxyPackets();
+    }
+
+    /**
+     * Forwards packet which passed all filters. If the server is configured to have its packets
+     * coalesced and the packet only updates a value, it is held back until the end of tick and
+     * cancelled. Otherwise, held back packets are written first to keep the order.
+     *
+     * @param   connection
+     *          Server connection that received the packet
+     * @param   proxy
+     *          Proxy scoreboard of the player
+     * @param   packet
+     *          Packet to forward
+     * @return  {@code true} if packet was held back and should be cancelled, {@code false} if not
+     */
+    private static boolean forward(@NotNull VelocityServerConnection connection, @NotNull VelocityScoreboard proxy,
+                                   @NotNull MinecraftPacket packet) {
+        if (VelocityScoreboard.isCoalescedServer(connection.getServerInfo().getName())
+                && proxy.queueDownstreamPacket(packet)) {
+            return true;
+        }
+        proxy.writeDownstreamPackets();
+        return false;
     }
 
     /**
@@ -87,15 +162,22 @@ public class PacketHandler {
      * @return  {@code true} if packet should be cancelled, {@code false} if not
      */
     public static boolean handle(@NotNull MinecraftSessionHandler handler, @NotNull DisplayObjectivePacket packet) {
+        VelocityServerConnection connection = getServerConnection(handler);
+        VelocityScoreboard proxy = getProxy(connection);
+        flushPending(proxy);
+
+        // Drop packets which would not change anything
+        if (dropRedundant(connection, proxy.getDownstream().isRedundant(packet))) return true;
+
         // Filter out invalid packets
-        if (getDownstream(handler).handle(packet)) return true;
+        if (proxy.getDownstream().handle(packet)) return true;
 
-        if (getProxy(handler).getObjective(packet.getPosition()) != null) {
+        if (proxy.getVisibleObjective(packet.getPosition()) != null) {
             // This slot is occupied by proxy scoreboard, cancel packet
             return true;
         }
 
-        return false;
+        return forward(connection, proxy, packet);
     }
 
     /**
@@ -108,16 +190,28 @@ public class PacketHandler {
      * @return  {@code true} if packet should be cancelled, {@code false} if not
      */
     public static boolean handle(@NotNull MinecraftSessionHandler handler, @NotNull ObjectivePacket packet) {
+        VelocityServerConnection connection = getServerConnection(handler);
+        VelocityScoreboard proxy = getProxy(connection);
+        flushPending(proxy);
+
+        // Drop packets which would not change anything
+        if (dropRedundant(connection, proxy.getDownstream().isRedundant(packet))) return true;
+
+        // Share identical titles with other players on the same server
+        if (DownstreamInterner.isEnabled() && packet.getTitle() != null) {
+            packet.setTitle(getInterner(connection).intern(packet.getTitle()));
+        }
+
         // Filter out invalid packets
-        if (getDownstream(handler).handle(packet)) return true;
+        if (proxy.getDownstream().handle(packet)) return true;
 
-        VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
+        VelocityObjective objective = proxy.getVisibleObjective(packet.getObjectiveName());
         if (objective != null) {
             // Proxy already contains objective with this name, cancel everything
             return true;
         }
 
-        return false;
+        return forward(connection, proxy, packet);
     }
 
     /**
@@ -130,25 +224,29 @@ public class PacketHandler {
      * @return  {@code true} if packet should be cancelled, {@code false} if not
      */
     public static boolean handle(@NotNull MinecraftSessionHandler handler, @NotNull ScorePacket packet) {
+        VelocityServerConnection connection = getServerConnection(handler);
+        VelocityScoreboard proxy = getProxy(connection);
+        flushPending(proxy);
+
+        // Drop packets which would not change anything
+        if (dropRedundant(connection, proxy.getDownstream().isRedundant(packet))) return true;
+
         // Filter out invalid packets
-        if (getDownstream(handler).handle(packet)) return true;
+        if (proxy.getDownstream().handle(packet)) return true;
 
         if (packet.getObjectiveName() == null) {
             // Null objective removes from all objectives, add back what was set by proxy
-            for (ProxyObjective objective : getProxy(handler).getObjectives()) {
-                VelocityScore score = (VelocityScore) objective.getScore(packet.getScoreHolder());
-                if (score != null) score.sendUpdate();
-            }
-            return false;
+            proxy.restoreScores(packet.getScoreHolder());
+            return forward(connection, proxy, packet);
         } else {
-            VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
+            VelocityObjective objective = proxy.getVisibleObjective(packet.getObjectiveName());
             if (objective != null) {
                 // Proxy is occupying this objective, cancel packet
                 return true;
             }
         }
 
-        return false;
+        return forward(connection, proxy, packet);
     }
 
     /**
@@ -161,25 +259,29 @@ public class PacketHandler {
      * @return  {@code true} if packet should be cancelled, {@code false} if not
      */
     public static boolean handle(@NotNull MinecraftSessionHandler handler, @NotNull ScoreResetPacket packet) {
+        VelocityServerConnection connection = getServerConnection(handler);
+        VelocityScoreboard proxy = getProxy(connection);
+        flushPending(proxy);
+
+        // Drop packets which would not change anything
+        if (dropRedundant(connection, proxy.getDownstream().isRedundant(packet))) return true;
+
         // Filter out invalid packets
-        if (getDownstream(handler).handle(packet)) return true;
+        if (proxy.getDownstream().handle(packet)) return true;
 
         if (packet.getObjectiveName() == null) {
             // Null objective removes from all objectives, add back what was set by proxy
-            for (ProxyObjective objective : getProxy(handler).getObjectives()) {
-                VelocityScore score = (VelocityScore) objective.getScore(packet.getScoreHolder());
-                if (score != null) score.sendUpdate();
-            }
-            return false;
+            proxy.restoreScores(packet.getScoreHolder());
+            return forward(connection, proxy, packet);
         } else {
-            VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
+            VelocityObjective objective = proxy.getVisibleObjective(packet.getObjectiveName());
             if (objective != null) {
                 // Proxy is occupying this objective, cancel packet
                 return true;
             }
         }
 
-        return false;
+        return forward(connection, proxy, packet);
     }
 
     /**
@@ -193,16 +295,23 @@ public class PacketHandler {
      * @return  {@code true} if packet should be cancelled, {@code false} if not
      */
     public static boolean handle(@NotNull MinecraftSessionHandler handler, @NotNull ScoreSetPacket packet) {
+        VelocityServerConnection connection = getServerConnection(handler);
+        VelocityScoreboard proxy = getProxy(connection);
+        flushPending(proxy);
+
+        // Drop packets which would not change anything
+        if (dropRedundant(connection, proxy.getDownstream().isRedundant(packet))) return true;
+
         // Filter out invalid packets
-        if (getDownstream(handler).handle(packet)) return true;
+        if (proxy.getDownstream().handle(packet)) return true;
 
-        VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
+        VelocityObjective objective = proxy.getVisibleObjective(packet.getObjectiveName());
         if (objective != null) {
             // Proxy is occupying this objective, cancel packet
             return true;
         }
 
-        return false;
+        return forward(connection, proxy, packet);
     }
 
     /**
@@ -215,21 +324,64 @@ public class PacketHandler {
      * @return  {@code true} if packet should be cancelled, {@code false} if not
      */
     public static boolean handle(@NotNull MinecraftSessionHandler handler, @NotNull TeamPacket packet) {
+        VelocityServerConnection connection = getServerConnection(handler);
+        VelocityScoreboard proxy = getProxy(connection);
+        flushPending(proxy);
+
+        // Drop packets which would not change anything
+        if (dropRedundant(connection, proxy.getDownstream().isRedundant(packet))) return true;
+
+        // Share identical properties with other players on the same server
+        if (DownstreamInterner.isEnabled() && packet.getProperties() != null) {
+            packet.setProperties(getInterner(connection).intern(packet.getProperties()));
+        }
+
         // Filter out invalid packets
-        if (getDownstream(handler).handle(packet)) return true;
+        if (proxy.getDownstream().handle(packet)) return true;
 
-        VelocityTeam team = getProxy(handler).getTeam(packet.getName());
+        VelocityTeam team = proxy.getVisibleTeam(packet.getName());
         if (team != null) {
             // Proxy is occupying this team, cancel packet
             return true;
         } else {
             if (packet.getEntries() != null) { // Any player action
-                for (VelocityTeam proxyTeam : getProxy(handler).getTeamsRaw()) {
-                    packet.getEntries().removeAll(proxyTeam.getEntryCollection());
+                StringCollection entries = filterEntries(proxy, packet.getEntries());
+                if (entries != packet.getEntries()) {
+                    if (entries.size() == 0 && packet.getAction() != TeamPacket.TeamAction.REGISTER) {
+                        // All entries are in proxy teams, nothing left to add or remove
+                        return true;
+                    }
+                    packet.setEntries(entries);
                 }
             }
         }
 
-        return false;
+        return forward(connection, proxy, packet);
+    }
+
+    /**
+     * Removes entries which are in a proxy team. If no entry is in a proxy team, the same
+     * collection is returned. Otherwise, a new collection is returned, because the original
+     * may already be stored in a backend team.
+     *
+     * @param   proxy
+     *          Proxy scoreboard of the player
+     * @param   entries
+     *          Entries from backend packet
+     * @return  Entries which are not in any proxy team
+     */
+    @NotNull
+    private static StringCollection filterEntries(@NotNull VelocityScoreboard proxy, @NotNull StringCollection entries) {
+        if (entries.getEntry() != null) {
+            return proxy.getVisibleTeamByEntry(entries.getEntry()) == null ? entries : new StringCollection();
+        }
+        StringCollection filtered = null;
+        for (String entry : entries.getEntries()) {
+            if (proxy.getVisibleTeamByEntry(entry) != null) {
+                if (filtered == null) filtered = new StringCollection(entries.getEntries());
+                filtered.remove(entry);
+            }
+        }
+        return filtered == null ? entries : filtered;
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse index from score holder to objectives containing a score of that holder. A holder
+ * is usually only in a few objectives, so each of them is kept in a small immutable list,
+ * which is replaced on every change. This makes reads safe from any thread without locking.
+ *
+ * @param   <T>
+ *          Objective type
+ */
+public class ScoreHolderIndex<T> {
+
+    /** Objectives by score holder */
+    private final Map<String, List<T>> objectives = new ConcurrentHashMap<>();
+
+    /**
+     * Records that given objective contains a score of given holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   objective
+     *          Objective containing the score
+     */
+    public void add(@NotNull String holder, @NotNull T objective) {
+        objectives.compute(holder, (h, list) -> {
+            if (list == null) return List.of(objective);
+            if (list.contains(objective)) return list;
+            List<T> updated = new ArrayList<>(list.size() + 1);
+            updated.addAll(list);
+            updated.add(objective);
+            return Collections.unmodifiableList(updated);
+        });
+    }
+
+    /**
+     * Records that given objective no longer contains a score of given holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   objective
+     *          Objective which no longer contains the score
+     */
+    public void remove(@NotNull String holder, @NotNull T objective) {
+        objectives.computeIfPresent(holder, (h, list) -> {
+            if (!list.contains(objective)) return list;
+            if (list.size() == 1) return null;
+            List<T> updated = new ArrayList<>(list);
+            updated.remove(objective);
+            return Collections.unmodifiableList(updated);
+        });
+    }
+
+    /**
+     * Removes given holder from all objectives and returns the objectives it was in.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  Objectives which contained a score of the holder
+     */
+    @NotNull
+    public List<T> removeAll(@NotNull String holder) {
+        List<T> removed = objectives.remove(holder);
+        return removed == null ? Collections.emptyList() : removed;
+    }
+
+    /**
+     * Returns objectives containing a score of given holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  Objectives containing a score of the holder
+     */
+    @NotNull
+    public List<T> get(@NotNull String holder) {
+        return objectives.getOrDefault(holder, Collections.emptyList());
+    }
+
+    /**
+     * Removes everything from the index.
+     */
+    public void clear() {
+        objectives.clear();
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Score holders ordered the same way the client orders them in the sidebar, highest score
+ * first and holders with equal score by name. Backed by a treap (a binary search tree kept
+ * balanced by random priorities) where every node knows the size of its subtree, so updates,
+ * rank lookups and access by rank take O(log n) expected time.
+ * <p>
+ * This class is not thread-safe, callers are expected to synchronize access.
+ *
+ * @param   <T>
+ *          Type of values associated with holders
+ */
+public class ScoreRanking<T> {
+
+    /** Nodes by holder name */
+    private final Map<String, Node<T>> nodes = new HashMap<>();
+
+    /** Root of the tree */
+    @Nullable
+    private Node<T> root;
+
+    /**
+     * Adds holder into the ranking or moves it to the position of its new score.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   score
+     *          Score of the holder
+     * @param   value
+     *          Value associated with the holder
+     */
+    public void put(@NotNull String holder, int score, @NotNull T value) {
+        Node<T> node = nodes.get(holder);
+        if (node != null) {
+            node.value = value;
+            if (node.score == score) return;
+            root = remove(root, node);
+            node.score = score;
+            node.left = null;
+            node.right = null;
+            node.size = 1;
+        } else {
+            node = new Node<>(holder, score, value, ThreadLocalRandom.current().nextInt());
+            nodes.put(holder, node);
+        }
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes holder from the ranking.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  {@code true} if the holder was in the ranking, {@code false} if not
+     */
+    public boolean remove(@NotNull String holder) {
+        Node<T> node = nodes.remove(holder);
+        if (node == null) return false;
+        root = remove(root, node);
+        return true;
+    }
+
+    /**
+     * Returns position of given holder, {@code 0} being the highest score.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  Position of the holder or {@code -1} if it is not in the ranking
+     */
+    public int rank(@NotNull String holder) {
+        Node<T> node = nodes.get(holder);
+        if (node == null) return -1;
+        int rank = 0;
+        Node<T> current = root;
+        while (current != null) {
+            int compare = compare(node, current);
+            if (compare < 0) {
+                current = current.left;
+            } else {
+                rank += size(current.left);
+                if (compare == 0) return rank;
+                rank++;
+                current = current.right;
+            }
+        }
+        throw new IllegalStateException("Holder " + holder + " is indexed but not in the tree");
+    }
+
+    /**
+     * Returns value of holder at given position.
+     *
+     * @param   rank
+     *          Position, {@code 0} being the highest score
+     * @return  Value at given position
+     * @throws  IndexOutOfBoundsException
+     *          If position is negative or not less than size
+     */
+    @NotNull
+    public T get(int rank) {
+        if (rank < 0 || rank >= size()) throw new IndexOutOfBoundsException("Rank " + rank + " out of bounds for size " + size());
+        Node<T> current = root;
+        while (true) {
+            int left = size(current.left);
+            if (rank < left) {
+                current = current.left;
+            } else if (rank == left) {
+                return current.value;
+            } else {
+                rank -= left + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns values of holders with the highest scores, highest first.
+     *
+     * @param   count
+     *          Maximum amount of values to return
+     * @return  Values of up to {@code count} highest holders
+     */
+    @NotNull
+    public List<T> top(int count) {
+        List<T> top = new ArrayList<>(Math.min(count, size()));
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> current = root;
+        while (top.size() < count && (current != null || !stack.isEmpty())) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            current = stack.pop();
+            top.add(current.value);
+            current = current.right;
+        }
+        return top;
+    }
+
+    /**
+     * Returns amount of holders in the ranking.
+     *
+     * @return  Amount of holders
+     */
+    public int size() {
+        return size(root);
+    }
+
+    @NotNull
+    private Node<T> insert(@Nullable Node<T> tree, @NotNull Node<T> node) {
+        if (tree == null) return node;
+        if (compare(node, tree) < 0) {
+            tree.left = insert(tree.left, node);
+            if (tree.left.priority > tree.priority) tree = rotateRight(tree);
+        } else {
+            tree.right = insert(tree.right, node);
+            if (tree.right.priority > tree.priority) tree = rotateLeft(tree);
+        }
+        update(tree);
+        return tree;
+    }
+
+    @Nullable
+    private Node<T> remove(@Nullable Node<T> tree, @NotNull Node<T> node) {
+        if (tree == null) return null;
+        int compare = compare(node, tree);
+        if (compare == 0) return merge(tree.left, tree.right);
+        if (compare < 0) {
+            tree.left = remove(tree.left, node);
+        } else {
+            tree.right = remove(tree.right, node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    @Nullable
+    private Node<T> merge(@Nullable Node<T> left, @Nullable Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    @NotNull
+    private Node<T> rotateRight(@NotNull Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        update(node);
+        left.right = node;
+        return left;
+    }
+
+    @NotNull
+    private Node<T> rotateLeft(@NotNull Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        update(node);
+        right.left = node;
+        return right;
+    }
+
+    private void update(@NotNull Node<T> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private int size(@Nullable Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private int compare(@NotNull Node<T> a, @NotNull Node<T> b) {
+        if (a.score != b.score) return Integer.compare(b.score, a.score);
+        int compare = String.CASE_INSENSITIVE_ORDER.compare(a.holder, b.holder);
+        return compare != 0 ? compare : a.holder.compareTo(b.holder);
+    }
+
+    private static class Node<T> {
+
+        @NotNull private final String holder;
+        private int score;
+        @NotNull private T value;
+        private final int priority;
+        private int size = 1;
+        @Nullable private Node<T> left;
+        @Nullable private Node<T> right;
+
+        private Node(@NotNull String holder, int score, @NotNull T value, int priority) {
+            this.holder = holder;
+            this.score = score;
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Table of score values by holder name stored in two parallel arrays, one with holders and one
+ * with primitive values, using open addressing with linear probing. Unlike a map of score
+ * objects, a holder only costs one array slot for its name and one for its value.
+ * <p>
+ * This class is not thread-safe, callers are expected to synchronize access.
+ */
+public class ScoreTable {
+
+    /** Initial capacity, must be a power of two */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Holders by slot, {@code null} for empty slots */
+    @NotNull
+    private String[] holders = new String[INITIAL_CAPACITY];
+
+    /** Values by slot */
+    private int[] values = new int[INITIAL_CAPACITY];
+
+    /** Amount of holders in the table */
+    private int size;
+
+    /**
+     * Sets value of given holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   value
+     *          New value
+     * @return  {@code true} if the holder was added or its value changed, {@code false} if not
+     */
+    public boolean put(@NotNull String holder, int value) {
+        int slot = find(holder);
+        if (holders[slot] != null) {
+            if (values[slot] == value) return false;
+            values[slot] = value;
+            return true;
+        }
+        holders[slot] = holder;
+        values[slot] = value;
+        if (++size > holders.length * 3 / 4) resize();
+        return true;
+    }
+
+    /**
+     * Returns whether given holder has a value.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  {@code true} if the holder has a value, {@code false} if not
+     */
+    public boolean contains(@NotNull String holder) {
+        return holders[find(holder)] != null;
+    }
+
+    /**
+     * Returns value of given holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  Value of the holder
+     * @throws  IllegalArgumentException
+     *          If the holder has no value
+     */
+    public int get(@NotNull String holder) {
+        int slot = find(holder);
+        if (holders[slot] == null) throw new IllegalArgumentException("Holder " + holder + " is not in the table");
+        return values[slot];
+    }
+
+    /**
+     * Removes value of given holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  {@code true} if the holder had a value, {@code false} if not
+     */
+    public boolean remove(@NotNull String holder) {
+        int slot = find(holder);
+        if (holders[slot] == null) return false;
+        holders[slot] = null;
+        size--;
+        // Shift following entries of the same probe sequence back, so lookups do not stop early
+        int mask = holders.length - 1;
+        int empty = slot;
+        for (int next = (slot + 1) & mask; holders[next] != null; next = (next + 1) & mask) {
+            int home = slot(holders[next]);
+            if (((next - home) & mask) >= ((next - empty) & mask)) {
+                holders[empty] = holders[next];
+                values[empty] = values[next];
+                holders[next] = null;
+                empty = next;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calls given action with every holder and its value.
+     *
+     * @param   action
+     *          Action to call
+     */
+    public void forEach(@NotNull ObjIntConsumer<String> action) {
+        for (int i = 0; i < holders.length; i++) {
+            if (holders[i] != null) action.accept(holders[i], values[i]);
+        }
+    }
+
+    /**
+     * Returns all holders in the table.
+     *
+     * @return  Copy of all holders
+     */
+    @NotNull
+    public Collection<String> getHolders() {
+        List<String> list = new ArrayList<>(size);
+        for (String holder : holders) {
+            if (holder != null) list.add(holder);
+        }
+        return list;
+    }
+
+    /**
+     * Returns amount of holders in the table.
+     *
+     * @return  Amount of holders
+     */
+    public int size() {
+        return size;
+    }
+
+    private int find(@NotNull String holder) {
+        int mask = holders.length - 1;
+        int slot = slot(holder);
+        while (holders[slot] != null && !holders[slot].equals(holder)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int slot(@NotNull String holder) {
+        int hash = holder.hashCode();
+        return (hash ^ (hash >>> 16)) & (holders.length - 1);
+    }
+
+    private void resize() {
+        String[] oldHolders = holders;
+        int[] oldValues = values;
+        holders = new String[oldHolders.length * 2];
+        values = new int[oldHolders.length * 2];
+        for (int i = 0; i < oldHolders.length; i++) {
+            if (oldHolders[i] == null) continue;
+            int slot = find(oldHolders[i]);
+            holders[slot] = oldHolders[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
@@ -22,21 +22,39 @@ package com.velocitypowered.proxy.data;
 
 import com.velocitypowered.api.TextHolder;
 import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+
 /**
  * Class for holding displayable text. Minecraft 1.12 and lower uses legacy String,
  * while 1.13+ uses Components. This class holds both values and allows to set value
  * for each version interval. If initialized with only one value and the other one is
  * needed, it will be computed automatically. Manually defining both legacy and modern
  * text can be used to override automatic computation if one wants to display something else.
+ * Since the text never changes, serialized component is cached for each protocol version.
+ * <p>
+ * Two instances are equal if they display the same legacy text and the same component,
+ * no matter how they were constructed. Hash code is computed once and cached, so comparing
+ * a newly built text with the current one is cheap when they differ.
+ * <p>
+ * When {@link #setRetainEncoded(boolean) enabled}, texts read from packets keep a copy of their
+ * encoded bytes instead of a decoded holder. The bytes are written back as they are and compared
+ * directly, the component is only decoded when something asks for it.
  */
 public class TextHolderImpl extends TextHolder {
 
+    /** Whether texts read from packets keep their encoded bytes instead of being decoded */
+    private static boolean retainEncoded = false;
+
     /** Raw text for 1.12- players */
     @Nullable
     private String legacyText;
@@ -49,6 +67,21 @@ public class TextHolderImpl extends TextHolder {
     @Nullable
     private ComponentHolder holder;
 
+    /** Encoded component as read from a packet */
+    @Nullable
+    private byte[] raw;
+
+    /** Protocol version {@link #raw} was encoded with */
+    @Nullable
+    private ProtocolVersion rawVersion;
+
+    /** Serialized component indexed by protocol version ordinal, replaced on every new version */
+    @Nullable
+    private volatile byte[][] encoded;
+
+    /** Cached hash code of the content, {@code 0} if not computed yet */
+    private int hash;
+
     /**
      * Constructs new instance with given legacy text for 1.12- players.
      * If used for 1.13+, display component will be computed automatically.
@@ -82,6 +115,63 @@ public class TextHolderImpl extends TextHolder {
         this.holder = holder;
     }
 
+    /**
+     * Constructs new instance using encoded component.
+     *
+     * @param   raw
+     *          Encoded component
+     * @param   rawVersion
+     *          Protocol version the component was encoded with
+     */
+    private TextHolderImpl(@NotNull byte[] raw, @NotNull ProtocolVersion rawVersion) {
+        this.raw = raw;
+        this.rawVersion = rawVersion;
+    }
+
+    /**
+     * Sets whether texts read from packets should keep their encoded bytes and only
+     * decode them when needed.
+     *
+     * @param   retainEncoded
+     *          {@code true} to keep encoded bytes, {@code false} to decode right away
+     */
+    public static void setRetainEncoded(boolean retainEncoded) {
+        TextHolderImpl.retainEncoded = retainEncoded;
+    }
+
+    /**
+     * Returns whether texts read from packets keep their encoded bytes.
+     *
+     * @return  {@code true} if encoded bytes are kept, {@code false} if not
+     */
+    public static boolean isRetainEncoded() {
+        return retainEncoded;
+    }
+
+    /**
+     * Reads a component from buffer. Depending on {@link #setRetainEncoded(boolean)}, the
+     * component is either decoded or its encoded bytes are copied.
+     *
+     * @param   buf
+     *          Buffer to read from
+     * @param   version
+     *          Protocol version the component is encoded with
+     * @return  Read text
+     */
+    @NotNull
+    public static TextHolderImpl read(@NotNull ByteBuf buf, @NotNull ProtocolVersion version) {
+        if (!retainEncoded) return new TextHolderImpl(ComponentHolder.read(buf, version));
+        int start = buf.readerIndex();
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+            NbtSkipper.skipTag(buf);
+        } else {
+            buf.skipBytes(ProtocolUtils.readVarInt(buf));
+        }
+        byte[] raw = new byte[buf.readerIndex() - start];
+        buf.getBytes(start, raw);
+        return new TextHolderImpl(raw, version);
+    }
+
     /**
      * Constructs new instance with given texts for both 1.12- and 1.13+.
      *
@@ -137,6 +227,8 @@ public class TextHolderImpl extends TextHolder {
         if (modernText == null) {
             if (holder != null) {
                 modernText = holder.getComponent();
+            } else if (raw != null) {
+                modernText = ComponentHolder.read(Unpooled.wrappedBuffer(raw), rawVersion).getComponent();
             } else {
                 modernText = Component.text(getLegacyText());
             }
@@ -145,21 +237,119 @@ public class TextHolderImpl extends TextHolder {
     }
 
     /**
-     * Returns component holder of this text. If not present, a new component
-     * holder for given version is returned.
+     * Writes component of this text for given protocol version. If this text was not deserialized
+     * from a packet, the component is serialized once per protocol version and the bytes are copied
+     * on every next write. Encoded bytes read from a packet are written as they are if the version matches.
      *
+     * @param   buf
+     *          Buffer to write to
      * @param   version
-     *          Version to create component holder for if not present
-     * @return  Component holder
+     *          Protocol version to write component for
+     */
+    public void write(@NotNull ByteBuf buf, @NotNull ProtocolVersion version) {
+        buf.writeBytes(getEncoded(version));
+    }
+
+    /**
+     * Returns the bytes {@link #write(ByteBuf, ProtocolVersion)} writes for given protocol version.
+     * Encoded bytes read from a packet are returned as they are if the version matches, anything
+     * else is serialized once per protocol version and cached. The returned array must not be modified.
+     *
+     * @param   version
+     *          Protocol version to encode component for
+     * @return  Encoded component
      */
     @NotNull
-    public ComponentHolder getHolder(@NotNull ProtocolVersion version) {
-        if (holder == null) return new ComponentHolder(version, getModernText()); // Cannot save because of potential different versions
-        return holder;
+    private byte[] getEncoded(@NotNull ProtocolVersion version) {
+        if (raw != null && version == rawVersion) return raw;
+        byte[][] cache = encoded;
+        byte[] bytes = cache == null ? null : cache[version.ordinal()];
+        if (bytes == null) {
+            ByteBuf tmp = Unpooled.buffer();
+            try {
+                (holder != null ? holder : new ComponentHolder(version, getModernText())).write(tmp);
+                bytes = ByteBufUtil.getBytes(tmp);
+            } finally {
+                tmp.release();
+            }
+            byte[][] updated = cache == null ? new byte[ProtocolVersion.values().length][] : cache.clone();
+            updated[version.ordinal()] = bytes;
+            encoded = updated;
+        }
+        return bytes;
+    }
+
+    /**
+     * Compares content of this text with another one as seen by a player with given protocol
+     * version. 1.13+ texts are compared by the bytes sent to the player, no matter whether they
+     * were read from a packet, deserialized or created from a component, so texts read from
+     * packets do not need to be converted into components.
+     *
+     * @param   other
+     *          Text to compare with
+     * @param   version
+     *          Protocol version of the player
+     * @return  {@code true} if both texts display the same, {@code false} if not
+     */
+    public boolean contentEquals(@NotNull TextHolder other, @NotNull ProtocolVersion version) {
+        if (this == other) return true;
+        if (version.lessThan(ProtocolVersion.MINECRAFT_1_13)) return getLegacyText().equals(other.getLegacyText());
+        if (!(other instanceof TextHolderImpl impl)) return false;
+        return Arrays.equals(getEncoded(version), impl.getEncoded(version));
+    }
+
+    /**
+     * Returns hash code consistent with {@link #contentEquals(TextHolder, ProtocolVersion)}, computed
+     * from the legacy text for 1.12- and from the bytes sent to the player for 1.13+.
+     *
+     * @param   version
+     *          Protocol version of the player
+     * @return  Hash code of the content
+     */
+    public int contentHashCode(@NotNull ProtocolVersion version) {
+        if (version.lessThan(ProtocolVersion.MINECRAFT_1_13)) return getLegacyText().hashCode();
+        return Arrays.hashCode(getEncoded(version));
+    }
+
+    /**
+     * Compares two texts which may be {@code null} as seen by a player with given protocol version.
+     *
+     * @param   a
+     *          First text
+     * @param   b
+     *          Second text
+     * @param   version
+     *          Protocol version of the player
+     * @return  {@code true} if both texts display the same, {@code false} if not
+     * @see     #contentEquals(TextHolder, ProtocolVersion)
+     */
+    public static boolean textsEqual(@Nullable TextHolderImpl a, @Nullable TextHolderImpl b, @NotNull ProtocolVersion version) {
+        if (a == b) return true;
+        if (a == null || b == null) return false;
+        return a.contentEquals(b, version);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TextHolderImpl other)) return false;
+        if (hashCode() != other.hashCode()) return false;
+        return getLegacyText().equals(other.getLegacyText()) && getModernText().equals(other.getModernText());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * getLegacyText().hashCode() + getModernText().hashCode();
+            if (h == 0) h = 1;
+            hash = h;
+        }
+        return h;
     }
 
     @Override
     public String toString() {
-        return "TextHolderImpl{legacyText=" + getLegacyText() + ", modernText=" + getModernText() + ", holder=" + holder + "}";
+        return "TextHolderImpl{legacyText=" + getLegacyText() + ", modernText=" + getModernText() + ", holder=" + holder + ", encodedBytes=" + (raw == null ? 0 : raw.length) + "}";
     }
 }
@@ -0,0 +1,234 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Replaces equal instances with a single canonical one, so only one copy of each value is kept
+ * in memory. Canonical instances are referenced weakly and forgotten once nothing else uses them.
+ * Hash code and equality are provided by the caller, so values do not need to override
+ * {@link Object#equals(Object)}. Interned values are shared and must never be modified.
+ * Optionally, every canonical instance keeps its encoded form, computed once when it is added.
+ * <p>
+ * This class is thread-safe. Lookups of values which are already canonical do not lock, only
+ * adding a new canonical instance does. A lookup running while the table is changed may miss
+ * a canonical instance, in which case it is repeated under the lock.
+ *
+ * @param   <T>
+ *          Type of interned values
+ */
+public class WeakInterner<T> {
+
+    /** Initial amount of chains, must be a power of two */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Function computing hash code of a value */
+    @NotNull
+    private final ToIntFunction<T> hasher;
+
+    /** Function comparing two values */
+    @NotNull
+    private final BiPredicate<T, T> equality;
+
+    /** Function encoding a value, {@code null} if encoded forms are not kept */
+    @Nullable
+    private final Function<T, byte[]> encoder;
+
+    /** Chains of canonical instances by their hash code, replaced when resized */
+    @NotNull
+    private volatile AtomicReferenceArray<Entry<T>> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /** Queue of entries whose value was garbage collected */
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    /** Amount of entries in all chains */
+    private int size;
+
+    /**
+     * Constructs new instance with given hash and equality functions.
+     *
+     * @param   hasher
+     *          Function computing hash code of a value
+     * @param   equality
+     *          Function returning {@code true} if two values are interchangeable
+     */
+    public WeakInterner(@NotNull ToIntFunction<T> hasher, @NotNull BiPredicate<T, T> equality) {
+        this(hasher, equality, null);
+    }
+
+    /**
+     * Constructs new instance with given hash and equality functions, keeping encoded form
+     * of every canonical instance.
+     *
+     * @param   hasher
+     *          Function computing hash code of a value
+     * @param   equality
+     *          Function returning {@code true} if two values are interchangeable
+     * @param   encoder
+     *          Function encoding a value, {@code null} to not keep encoded forms
+     */
+    public WeakInterner(@NotNull ToIntFunction<T> hasher, @NotNull BiPredicate<T, T> equality,
+                        @Nullable Function<T, byte[]> encoder) {
+        this.hasher = hasher;
+        this.equality = equality;
+        this.encoder = encoder;
+    }
+
+    /**
+     * Returns canonical instance equal to given value. If there is none, given value
+     * becomes the canonical instance and is returned.
+     *
+     * @param   value
+     *          Value to intern
+     * @return  Canonical instance equal to given value
+     */
+    @NotNull
+    public T intern(@NotNull T value) {
+        int hash = hasher.applyAsInt(value);
+        T existing = find(table, value, hash);
+        if (existing != null) return existing;
+        synchronized (this) {
+            expunge();
+            AtomicReferenceArray<Entry<T>> table = this.table;
+            existing = find(table, value, hash);
+            if (existing != null) return existing;
+            int index = index(hash, table.length());
+            byte[] encoded = encoder == null ? null : encoder.apply(value);
+            table.set(index, new Entry<>(value, hash, encoded, table.get(index), queue));
+            if (++size > table.length() * 3 / 4) resize();
+            return value;
+        }
+    }
+
+    /**
+     * Returns encoded form of given value if it is a canonical instance. Values which are only
+     * equal to a canonical instance are not looked up, since they were not interned.
+     *
+     * @param   value
+     *          Value to get encoded form of
+     * @return  Encoded form of the value or {@code null} if it is not a canonical instance
+     *          or encoded forms are not kept
+     */
+    @Nullable
+    public byte[] getEncoded(@NotNull T value) {
+        if (encoder == null) return null;
+        int hash = hasher.applyAsInt(value);
+        AtomicReferenceArray<Entry<T>> table = this.table;
+        for (Entry<T> entry = table.get(index(hash, table.length())); entry != null; entry = entry.next) {
+            if (entry.get() == value) return entry.encoded;
+        }
+        return null;
+    }
+
+    /**
+     * Returns amount of canonical instances, including ones which were garbage collected
+     * but not removed yet.
+     *
+     * @return  Amount of canonical instances
+     */
+    public synchronized int size() {
+        expunge();
+        return size;
+    }
+
+    @Nullable
+    private T find(@NotNull AtomicReferenceArray<Entry<T>> table, @NotNull T value, int hash) {
+        for (Entry<T> entry = table.get(index(hash, table.length())); entry != null; entry = entry.next) {
+            if (entry.hash != hash) continue;
+            T existing = entry.get();
+            if (existing != null && equality.test(existing, value)) return existing;
+        }
+        return null;
+    }
+
+    private int index(int hash, int length) {
+        return (hash ^ (hash >>> 16)) & (length - 1);
+    }
+
+    private void resize() {
+        AtomicReferenceArray<Entry<T>> oldTable = table;
+        AtomicReferenceArray<Entry<T>> newTable = new AtomicReferenceArray<>(oldTable.length() * 2);
+        for (int i = 0; i < oldTable.length(); i++) {
+            Entry<T> entry = oldTable.get(i);
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                int index = index(entry.hash, newTable.length());
+                entry.next = newTable.get(index);
+                newTable.set(index, entry);
+                entry = next;
+            }
+        }
+        table = newTable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        Reference<? extends T> reference;
+        while ((reference = queue.poll()) != null) {
+            Entry<T> removed = (Entry<T>) reference;
+            AtomicReferenceArray<Entry<T>> table = this.table;
+            int index = index(removed.hash, table.length());
+            Entry<T> previous = null;
+            for (Entry<T> entry = table.get(index); entry != null; previous = entry, entry = entry.next) {
+                if (entry != removed) continue;
+                if (previous == null) {
+                    table.set(index, entry.next);
+                } else {
+                    previous.next = entry.next;
+                }
+                size--;
+                break;
+            }
+        }
+    }
+
+    private static class Entry<T> extends WeakReference<T> {
+
+        /** Hash code of the value, kept to find the chain once the value is gone */
+        private final int hash;
+
+        /** Encoded form of the value, {@code null} if encoded forms are not kept */
+        @Nullable
+        private final byte[] encoded;
+
+        /** Next entry in the chain, changed under the lock of the interner */
+        @Nullable
+        private volatile Entry<T> next;
+
+        private Entry(@NotNull T value, int hash, @Nullable byte[] encoded, @Nullable Entry<T> next,
+                      @NotNull ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.hash = hash;
+            this.encoded = encoded;
+            this.next = next;
+        }
+    }
+}
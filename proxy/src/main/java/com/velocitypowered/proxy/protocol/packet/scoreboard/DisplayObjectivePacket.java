@@ -25,6 +25,7 @@ import com.velocitypowered.api.scoreboard.DisplaySlot;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import com.velocitypowered.proxy.data.NameTable;
 import com.velocitypowered.proxy.data.PacketHandler;
 import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.NotNull;
@@ -66,7 +67,7 @@ public class DisplayObjectivePacket implements MinecraftPacket {
         } else {
             position = DisplaySlot.values()[buf.readByte()];
         }
-        objectiveName = ProtocolUtils.readString(buf);
+        objectiveName = NameTable.readString(buf);
     }
 
     @Override
@@ -76,7 +77,7 @@ public class DisplayObjectivePacket implements MinecraftPacket {
         } else {
             buf.writeByte(position.ordinal());
         }
-        ProtocolUtils.writeString(buf, objectiveName);
+        NameTable.writeString(buf, objectiveName);
     }
 
     @Override
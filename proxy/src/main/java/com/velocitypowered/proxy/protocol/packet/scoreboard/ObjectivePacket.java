@@ -28,8 +28,8 @@ import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import com.velocitypowered.proxy.data.NumberFormatEncoder;
+import com.velocitypowered.proxy.data.NameTable;
 import com.velocitypowered.proxy.data.PacketHandler;
 import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.NotNull;
@@ -86,7 +86,7 @@ public class ObjectivePacket implements MinecraftPacket {
 
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        objectiveName = ProtocolUtils.readString(buf);
+        objectiveName = NameTable.readString(buf);
         if (protocolVersion.noGreaterThan(ProtocolVersion.MINECRAFT_1_7_6)) {
             title =  TextHolder.of(ProtocolUtils.readString(buf));
         }
@@ -94,7 +94,7 @@ public class ObjectivePacket implements MinecraftPacket {
         if (protocolVersion.noGreaterThan(ProtocolVersion.MINECRAFT_1_7_6)) return;
         if (action == ObjectiveAction.REGISTER || action == ObjectiveAction.UPDATE) {
             if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_13)) {
-                title = new TextHolderImpl(ComponentHolder.read(buf, protocolVersion));
+                title = TextHolderImpl.read(buf, protocolVersion);
                 healthDisplay = DISPLAYS[ProtocolUtils.readVarInt(buf)];
             } else {
                 title = TextHolder.of(ProtocolUtils.readString(buf));
@@ -110,7 +110,7 @@ public class ObjectivePacket implements MinecraftPacket {
 
     @Override
     public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, objectiveName);
+        NameTable.writeString(buf, objectiveName);
         if (protocolVersion.noGreaterThan(ProtocolVersion.MINECRAFT_1_7_6)) {
             ProtocolUtils.writeString(buf, title.getLegacyText(32));
             buf.writeByte(action.ordinal());
@@ -119,7 +119,7 @@ public class ObjectivePacket implements MinecraftPacket {
         buf.writeByte(action.ordinal());
         if (action == ObjectiveAction.REGISTER || action == ObjectiveAction.UPDATE) {
             if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_13)) {
-                ((TextHolderImpl)title).getHolder(protocolVersion).write(buf);
+                ((TextHolderImpl)title).write(buf, protocolVersion);
                 ProtocolUtils.writeVarInt(buf, healthDisplay.ordinal());
             } else {
                 ProtocolUtils.writeString(buf, title.getLegacyText(32));
@@ -169,6 +169,16 @@ public class ObjectivePacket implements MinecraftPacket {
         return title;
     }
 
+    /**
+     * Replaces title of the objective (for register and update actions only).
+     *
+     * @param   title
+     *          New title
+     */
+    public void setTitle(@NotNull TextHolder title) {
+        this.title = title;
+    }
+
     /**
      * Returns health display of the objective.
      *
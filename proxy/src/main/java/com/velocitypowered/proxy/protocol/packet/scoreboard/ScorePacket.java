@@ -24,6 +24,7 @@ import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import com.velocitypowered.proxy.data.NameTable;
 import com.velocitypowered.proxy.data.PacketHandler;
 import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.NotNull;
@@ -74,10 +75,10 @@ public class ScorePacket implements MinecraftPacket {
 
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        scoreHolder = ProtocolUtils.readString(buf);
+        scoreHolder = NameTable.readString(buf);
         action = ScoreAction.byId(buf.readByte());
         if (protocolVersion.greaterThan(ProtocolVersion.MINECRAFT_1_7_6) || action == ScoreAction.SET) {
-            objectiveName = ProtocolUtils.readString(buf);
+            objectiveName = NameTable.readString(buf);
         }
         if (action == ScoreAction.SET) {
             value = protocolVersion.noGreaterThan(ProtocolVersion.MINECRAFT_1_7_6) ? buf.readInt() : ProtocolUtils.readVarInt(buf);
@@ -86,10 +87,10 @@ public class ScorePacket implements MinecraftPacket {
 
     @Override
     public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, scoreHolder);
+        NameTable.writeString(buf, scoreHolder);
         buf.writeByte(action.ordinal());
         if (protocolVersion.greaterThan(ProtocolVersion.MINECRAFT_1_7_6) || action == ScoreAction.SET) {
-            ProtocolUtils.writeString(buf, objectiveName);
+            NameTable.writeString(buf, objectiveName);
         }
         if (action == ScoreAction.SET) {
             if (protocolVersion.noGreaterThan(ProtocolVersion.MINECRAFT_1_7_6)) {
@@ -24,6 +24,7 @@ import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import com.velocitypowered.proxy.data.NameTable;
 import com.velocitypowered.proxy.data.PacketHandler;
 import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.NotNull;
@@ -61,15 +62,15 @@ public class ScoreResetPacket implements MinecraftPacket {
 
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        scoreHolder = ProtocolUtils.readString(buf);
-        if (buf.readBoolean()) objectiveName = ProtocolUtils.readString(buf);
+        scoreHolder = NameTable.readString(buf);
+        if (buf.readBoolean()) objectiveName = NameTable.readString(buf);
     }
 
     @Override
     public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, scoreHolder);
+        NameTable.writeString(buf, scoreHolder);
         buf.writeBoolean(objectiveName != null);
-        if (objectiveName != null) ProtocolUtils.writeString(buf, objectiveName);
+        if (objectiveName != null) NameTable.writeString(buf, objectiveName);
     }
 
     @Override
@@ -25,9 +25,10 @@ import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import com.velocitypowered.proxy.data.NumberFormatEncoder;
+import com.velocitypowered.proxy.data.NameTable;
 import com.velocitypowered.proxy.data.PacketHandler;
+import com.velocitypowered.proxy.data.TextHolderImpl;
 import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -48,7 +49,7 @@ public class ScoreSetPacket implements MinecraftPacket {
 
     /** Display name to use for score holder instead of name (1.20.3+) */
     @Nullable
-    private ComponentHolder displayName;
+    private TextHolderImpl displayName;
 
     /** Number format of the score, null to use default number format from objective (1.20.3+) */
     @Nullable
@@ -75,7 +76,7 @@ public class ScoreSetPacket implements MinecraftPacket {
      *          Number format of the score (1.20.3+)
      */
     public ScoreSetPacket(@NotNull String scoreHolder, @NotNull String objectiveName,
-                          int value, @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+                          int value, @Nullable TextHolderImpl displayName, @Nullable NumberFormat numberFormat) {
         this.scoreHolder = scoreHolder;
         this.objectiveName = objectiveName;
         this.value = value;
@@ -85,20 +86,20 @@ public class ScoreSetPacket implements MinecraftPacket {
 
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        scoreHolder = ProtocolUtils.readString(buf);
-        objectiveName = ProtocolUtils.readString(buf);
+        scoreHolder = NameTable.readString(buf);
+        objectiveName = NameTable.readString(buf);
         value = ProtocolUtils.readVarInt(buf);
-        if (buf.readBoolean()) displayName = ComponentHolder.read(buf, protocolVersion);
+        if (buf.readBoolean()) displayName = TextHolderImpl.read(buf, protocolVersion);
         if (buf.readBoolean()) numberFormat = NumberFormatEncoder.read(buf, protocolVersion);
     }
 
     @Override
     public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, scoreHolder);
-        ProtocolUtils.writeString(buf, objectiveName);
+        NameTable.writeString(buf, scoreHolder);
+        NameTable.writeString(buf, objectiveName);
         ProtocolUtils.writeVarInt(buf, value);
         buf.writeBoolean(displayName != null);
-        if (displayName != null) displayName.write(buf);
+        if (displayName != null) displayName.write(buf, protocolVersion);
         buf.writeBoolean(numberFormat != null);
         if (numberFormat != null) NumberFormatEncoder.write(buf, protocolVersion, numberFormat);
     }
@@ -143,7 +144,7 @@ public class ScoreSetPacket implements MinecraftPacket {
      * @return  custom name for the score holder
      */
     @Nullable
-    public ComponentHolder getDisplayName() {
+    public TextHolderImpl getDisplayName() {
         return displayName;
     }
 
@@ -22,6 +22,7 @@ package com.velocitypowered.proxy.protocol.packet.scoreboard;
 
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
+import com.velocitypowered.proxy.data.NameTable;
 import com.velocitypowered.proxy.data.PacketHandler;
 import com.velocitypowered.proxy.data.StringCollection;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
@@ -31,6 +32,8 @@ import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+
 /**
  * Packet for setting scoreboard teams.
  */
@@ -107,9 +110,28 @@ public class TeamPacket implements MinecraftPacket {
         return packet;
     }
 
+    /**
+     * Creates a packet for adding or removing multiple entries.
+     *
+     * @param   name
+     *          Team name
+     * @param   entries
+     *          Entries to add or remove
+     * @param   add
+     *          {@code true} for adding, {@code false} for removing
+     * @return  Packet with given parameters
+     */
+    public static TeamPacket addOrRemovePlayers(@NotNull String name, @NotNull Collection<String> entries, boolean add) {
+        TeamPacket packet = new TeamPacket();
+        packet.name = name;
+        packet.action = (add ? TeamAction.ADD_PLAYER : TeamAction.REMOVE_PLAYER);
+        packet.entries = new StringCollection(entries);
+        return packet;
+    }
+
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        name = ProtocolUtils.readString(buf);
+        name = NameTable.readString(buf);
         action = TeamAction.byId(buf.readByte());
         if (action == TeamAction.REGISTER || action == TeamAction.UPDATE) {
             properties = new TeamProperties(buf, protocolVersion);
@@ -121,7 +143,7 @@ public class TeamPacket implements MinecraftPacket {
 
     @Override
     public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, name);
+        NameTable.writeString(buf, name);
         buf.writeByte(action.ordinal());
         if (action == TeamAction.REGISTER || action == TeamAction.UPDATE) {
             properties.encode(buf, protocolVersion);
@@ -166,6 +188,16 @@ public class TeamPacket implements MinecraftPacket {
         return properties;
     }
 
+    /**
+     * Replaces team properties in this packet (only for register and update actions).
+     *
+     * @param   properties
+     *          New team properties
+     */
+    public void setProperties(@NotNull TeamProperties properties) {
+        this.properties = properties;
+    }
+
     /**
      * Returns entries in the team (only for register / add player / remove player).
      *
@@ -176,6 +208,16 @@ public class TeamPacket implements MinecraftPacket {
         return entries;
     }
 
+    /**
+     * Replaces entries in this packet (only for register / add player / remove player).
+     *
+     * @param   entries
+     *          New entries
+     */
+    public void setEntries(@NotNull StringCollection entries) {
+        this.entries = entries;
+    }
+
     @Override
     public String toString() {
         return "TeamPacket{action=" + action + ", name=" + name + ", properties=" + properties + ", entries=" + entries + "}";
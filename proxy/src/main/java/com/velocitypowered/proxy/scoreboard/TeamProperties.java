@@ -27,7 +27,6 @@ import com.velocitypowered.api.scoreboard.NameVisibility;
 import com.velocitypowered.api.scoreboard.TeamColor;
 import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.NotNull;
 
@@ -116,7 +115,7 @@ public class TeamProperties {
             prefix = TextHolder.of((ProtocolUtils.readString(buf)));
             suffix = TextHolder.of((ProtocolUtils.readString(buf)));
         } else {
-            displayName = new TextHolderImpl(ComponentHolder.read(buf, protocolVersion));
+            displayName = TextHolderImpl.read(buf, protocolVersion);
         }
         byte flags = buf.readByte();
         allowFriendlyFire = (flags & 0x01) > 0;
@@ -129,8 +128,8 @@ public class TeamProperties {
         }
         if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_13)) {
             color = COLORS[ProtocolUtils.readVarInt(buf)];
-            prefix = new TextHolderImpl(ComponentHolder.read(buf, protocolVersion));
-            suffix = new TextHolderImpl(ComponentHolder.read(buf, protocolVersion));
+            prefix = TextHolderImpl.read(buf, protocolVersion);
+            suffix = TextHolderImpl.read(buf, protocolVersion);
         } else if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_8)) {
             int value = buf.readByte();
             color = value == -1 ? TeamColor.RESET : COLORS[value];
@@ -151,7 +150,7 @@ public class TeamProperties {
             ProtocolUtils.writeString(buf, prefix.getLegacyText(16));
             ProtocolUtils.writeString(buf, suffix.getLegacyText(16));
         } else {
-            ((TextHolderImpl)displayName).getHolder(protocolVersion).write(buf);
+            ((TextHolderImpl)displayName).write(buf, protocolVersion);
         }
         byte flags = 0;
         if (allowFriendlyFire) flags += 0x01;
@@ -165,8 +164,8 @@ public class TeamProperties {
         }
         if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_13)) {
             ProtocolUtils.writeVarInt(buf, color.ordinal());
-            ((TextHolderImpl)prefix).getHolder(protocolVersion).write(buf);
-            ((TextHolderImpl)suffix).getHolder(protocolVersion).write(buf);
+            ((TextHolderImpl)prefix).write(buf, protocolVersion);
+            ((TextHolderImpl)suffix).write(buf, protocolVersion);
         } else if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_8)) {
             buf.writeByte(0); // 1.8 - 1.12 does not actually use this field, non-zero values crash the client
             // buf.writeByte(color.ordinal());
@@ -251,6 +250,44 @@ public class TeamProperties {
         return canSeeFriendlyInvisibles;
     }
 
+    /**
+     * Compares these properties with properties received in another packet for the same player.
+     *
+     * @param   other
+     *          Properties to compare with
+     * @param   version
+     *          Protocol version of the player
+     * @return  {@code true} if player would see no difference, {@code false} if they would
+     */
+    public boolean contentEquals(@NotNull TeamProperties other, @NotNull ProtocolVersion version) {
+        return allowFriendlyFire == other.allowFriendlyFire &&
+                canSeeFriendlyInvisibles == other.canSeeFriendlyInvisibles &&
+                nameVisibility == other.nameVisibility &&
+                collisionRule == other.collisionRule &&
+                color == other.color &&
+                ((TextHolderImpl) displayName).contentEquals(other.displayName, version) &&
+                ((TextHolderImpl) prefix).contentEquals(other.prefix, version) &&
+                ((TextHolderImpl) suffix).contentEquals(other.suffix, version);
+    }
+
+    /**
+     * Returns hash code consistent with {@link #contentEquals(TeamProperties, ProtocolVersion)}.
+     *
+     * @param   version
+     *          Protocol version of the player
+     * @return  Hash code of the content
+     */
+    public int contentHashCode(@NotNull ProtocolVersion version) {
+        int hash = (allowFriendlyFire ? 1 : 0) | (canSeeFriendlyInvisibles ? 2 : 0);
+        hash = 31 * hash + nameVisibility.ordinal();
+        hash = 31 * hash + collisionRule.ordinal();
+        hash = 31 * hash + color.ordinal();
+        hash = 31 * hash + ((TextHolderImpl) displayName).contentHashCode(version);
+        hash = 31 * hash + ((TextHolderImpl) prefix).contentHashCode(version);
+        hash = 31 * hash + ((TextHolderImpl) suffix).contentHashCode(version);
+        return hash;
+    }
+
     /**
      * Sets display name and returns {@code true} if value changed, {@code false} if not.
      *
@@ -259,7 +296,7 @@ public class TeamProperties {
      * @return  {@code true} if value changed, {@code false} if not
      */
     public boolean setDisplayName(@NotNull TextHolder displayName) {
-        if (this.displayName == displayName) return false;
+        if (this.displayName.equals(displayName)) return false;
         this.displayName = displayName;
         return true;
     }
@@ -272,7 +309,7 @@ public class TeamProperties {
      * @return  {@code true} if value changed, {@code false} if not
      */
     public boolean setPrefix(@NotNull TextHolder prefix) {
-        if (this.prefix == prefix) return false;
+        if (this.prefix.equals(prefix)) return false;
         this.prefix = prefix;
         return true;
     }
@@ -285,7 +322,7 @@ public class TeamProperties {
      * @return  {@code true} if value changed, {@code false} if not
      */
     public boolean setSuffix(@NotNull TextHolder suffix) {
-        if (this.suffix == suffix) return false;
+        if (this.suffix.equals(suffix)) return false;
         this.suffix = suffix;
         return true;
     }
@@ -0,0 +1,347 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.event.scoreboard.ScoreboardEventSource;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.scoreboard.BroadcastGroup;
+import com.velocitypowered.api.scoreboard.ProxyScoreboard;
+import com.velocitypowered.api.scoreboard.ProxyTeam;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.data.PacketEncoder;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.DisplayObjectivePacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.TeamPacket;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Scoreboard shared by multiple viewers. Value updates (objective and team updates, scores,
+ * display slots and added team entries) are encoded once per protocol version and the same
+ * buffer is written to every viewer. Changes which need conflict resolution with backend
+ * scoreboard (registering and unregistering, removing team entries) are passed to the
+ * scoreboard of each viewer.
+ */
+public class VelocityBroadcastGroup extends VelocityScoreboard implements BroadcastGroup {
+
+    @NotNull
+    private final VelocityScoreboardManager manager;
+
+    /** Viewers of this group and their proxy scoreboards */
+    private final Map<Player, VelocityScoreboard> viewers = new ConcurrentHashMap<>();
+
+    public VelocityBroadcastGroup(@NotNull ScoreboardEventSource eventSource, @NotNull VelocityScoreboardManager manager) {
+        super(eventSource);
+        this.manager = manager;
+    }
+
+    @Override
+    public synchronized void addViewer(@NotNull Player player) {
+        if (viewers.containsKey(player)) return;
+        VelocityScoreboard scoreboard = manager.getProxyScoreboard(player);
+        viewers.put(player, scoreboard);
+        scoreboard.joinGroup(this);
+    }
+
+    @Override
+    public synchronized void removeViewer(@NotNull Player player) {
+        VelocityScoreboard scoreboard = viewers.remove(player);
+        if (scoreboard == null) return;
+        scoreboard.leaveGroup(this);
+    }
+
+    /**
+     * Removes player from this group without sending any packets, because they disconnected.
+     *
+     * @param   player
+     *          Player who disconnected
+     */
+    @ApiStatus.Internal
+    public void removeDisconnectedViewer(@NotNull Player player) {
+        viewers.remove(player);
+    }
+
+    @Override
+    public synchronized void setTeamOverride(@NotNull Player player, @NotNull String teamName,
+                                             @NotNull Consumer<ProxyTeam.PropertyBuilder> override) {
+        VelocityTeam team = getTeam(teamName);
+        if (team == null) throw new IllegalArgumentException("This group does not contain a team named " + teamName);
+        VelocityScoreboard scoreboard = viewers.get(player);
+        if (scoreboard == null) throw new IllegalArgumentException("Player " + player.getUsername() + " is not viewing this group");
+        VelocityTeam.PropertyBuilder builder = new VelocityTeam.PropertyBuilder();
+        override.accept(builder);
+        scoreboard.setTeamOverride(team, builder);
+    }
+
+    @Override
+    public synchronized void removeTeamOverride(@NotNull Player player, @NotNull String teamName) {
+        VelocityTeam team = getTeam(teamName);
+        VelocityScoreboard scoreboard = viewers.get(player);
+        if (team == null || scoreboard == null) return;
+        scoreboard.removeTeamOverride(team);
+    }
+
+    @Override
+    @NotNull
+    public Collection<Player> getViewers() {
+        return Collections.unmodifiableCollection(viewers.keySet());
+    }
+
+    @Override
+    @NotNull
+    public ConnectedPlayer getViewer() {
+        throw noViewer();
+    }
+
+    @Override
+    @NotNull
+    public DownstreamScoreboard getDownstream() {
+        throw noViewer();
+    }
+
+    @Override
+    public void fireEvent(@NotNull Function<Player, Object> event) {
+        for (Player player : viewers.keySet()) {
+            getEventSource().fireEvent(event.apply(player));
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        for (VelocityScoreboard scoreboard : viewers.values()) {
+            scoreboard.flush();
+        }
+    }
+
+    @Override
+    public synchronized void batch(@NotNull Consumer<ProxyScoreboard> changes) {
+        List<VelocityScoreboard> members = new ArrayList<>(viewers.values());
+        for (VelocityScoreboard scoreboard : members) {
+            scoreboard.beginBatch();
+        }
+        try {
+            changes.accept(this);
+        } finally {
+            for (VelocityScoreboard scoreboard : members) {
+                scoreboard.endBatch();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void sendPacket(@NotNull DisplayObjectivePacket packet) {
+        broadcast(version -> packet);
+        for (VelocityScoreboard scoreboard : viewers.values()) {
+            scoreboard.restoreFreedSlots();
+        }
+    }
+
+    @Override
+    public synchronized void sendPacket(@NotNull ObjectivePacket packet) {
+        if (packet.getAction() == ObjectivePacket.ObjectiveAction.UPDATE) {
+            broadcast(version -> packet);
+        } else {
+            for (VelocityScoreboard scoreboard : viewers.values()) {
+                scoreboard.sendPacket(packet);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void sendScoreUpdate(@NotNull VelocityScore score) {
+        int value = score.getScore();
+        broadcast(version -> score.createUpdatePacket(version, value));
+    }
+
+    @Override
+    public synchronized void sendScorePacket(@NotNull Function<ProtocolVersion, MinecraftPacket> packetFunction) {
+        broadcast(packetFunction);
+    }
+
+    @Override
+    public synchronized void sendPacket(@NotNull TeamPacket packet, @NotNull VelocityTeam affectedTeam) {
+        if (packet.getAction() == TeamPacket.TeamAction.UPDATE) {
+            // Viewers with overridden properties replace it with their own packet
+            broadcast(version -> packet, affectedTeam);
+        } else if (packet.getAction() == TeamPacket.TeamAction.ADD_PLAYER) {
+            broadcast(version -> packet);
+        } else {
+            for (VelocityScoreboard scoreboard : viewers.values()) {
+                scoreboard.sendPacket(packet, affectedTeam);
+            }
+        }
+    }
+
+    @Override
+    public void restoreScores(@NotNull String holder) {
+        throw noViewer();
+    }
+
+    @Override
+    public void restoreFreedSlots() {
+        throw noViewer();
+    }
+
+    @Override
+    public void resend() {
+        throw noViewer();
+    }
+
+    @Override
+    public void continueResend() {
+        throw noViewer();
+    }
+
+    @Override
+    public void cancelResend() {
+        throw noViewer();
+    }
+
+    @Override
+    public void freeze() {
+        throw noViewer();
+    }
+
+    @Override
+    public void joinGroup(@NotNull VelocityBroadcastGroup group) {
+        throw noViewer();
+    }
+
+    @Override
+    public void leaveGroup(@NotNull VelocityBroadcastGroup group) {
+        throw noViewer();
+    }
+
+    @Override
+    public void setTeamOverride(@NotNull VelocityTeam team, @NotNull VelocityTeam.PropertyBuilder override) {
+        throw noViewer();
+    }
+
+    @Override
+    public void removeTeamOverride(@NotNull VelocityTeam team) {
+        throw noViewer();
+    }
+
+    @Override
+    public void flushProxyPackets() {
+        throw noViewer();
+    }
+
+    @Override
+    public boolean queueDownstreamPacket(@NotNull MinecraftPacket packet) {
+        throw noViewer();
+    }
+
+    @Override
+    public void writeDownstreamPackets() {
+        throw noViewer();
+    }
+
+    @Override
+    public void beginBatch() {
+        throw noViewer();
+    }
+
+    @Override
+    public void endBatch() {
+        throw noViewer();
+    }
+
+    @Override
+    public void writeEncoded(@NotNull ByteBuf encoded, @NotNull MinecraftPacket packet, @Nullable VelocityTeam updatedTeam) {
+        encoded.release();
+        throw noViewer();
+    }
+
+    /**
+     * Returns exception thrown by methods of a viewer's scoreboard which do not apply to a group.
+     * Every such method is overridden, so the viewer, event loop and backend scoreboard left
+     * unset by the group constructor are never accessed.
+     *
+     * @return  Exception to throw
+     */
+    @NotNull
+    private static IllegalStateException noViewer() {
+        return new IllegalStateException("Broadcast groups do not have a single viewer");
+    }
+
+    /**
+     * Encodes packet once for every protocol version used by viewers and writes
+     * a duplicate of the encoded buffer to each of them.
+     *
+     * @param   packetFunction
+     *          Function creating packet for given protocol version
+     */
+    private void broadcast(@NotNull Function<ProtocolVersion, MinecraftPacket> packetFunction) {
+        broadcast(packetFunction, null);
+    }
+
+    /**
+     * Encodes packet once for every protocol version used by viewers and writes a duplicate
+     * of the encoded buffer to each of them. If the packet updates a team, viewers with
+     * properties of the team overridden send their own packet instead.
+     *
+     * @param   packetFunction
+     *          Function creating packet for given protocol version
+     * @param   updatedTeam
+     *          Team updated by the packet, {@code null} if the packet is not a team update
+     */
+    private void broadcast(@NotNull Function<ProtocolVersion, MinecraftPacket> packetFunction,
+                           @Nullable VelocityTeam updatedTeam) {
+        if (viewers.isEmpty()) return;
+        Map<ProtocolVersion, MinecraftPacket> packets = new EnumMap<>(ProtocolVersion.class);
+        Map<ProtocolVersion, ByteBuf> encoded = new EnumMap<>(ProtocolVersion.class);
+        try {
+            for (VelocityScoreboard scoreboard : viewers.values()) {
+                ProtocolVersion version = scoreboard.getViewer().getProtocolVersion();
+                if (version.greaterThan(MAXIMUM_SUPPORTED_VERSION)) continue;
+                ByteBuf buf = encoded.get(version);
+                if (buf == null) {
+                    MinecraftPacket packet = packetFunction.apply(version);
+                    buf = PacketEncoder.encode(ByteBufAllocator.DEFAULT, packet, version);
+                    packets.put(version, packet);
+                    encoded.put(version, buf);
+                }
+                scoreboard.writeEncoded(buf.retainedDuplicate(), packets.get(version), updatedTeam);
+            }
+        } finally {
+            for (ByteBuf buf : encoded.values()) {
+                buf.release();
+            }
+        }
+    }
+}
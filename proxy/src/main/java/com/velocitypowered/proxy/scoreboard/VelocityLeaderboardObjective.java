@@ -0,0 +1,141 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.scoreboard.*;
+import com.velocitypowered.proxy.data.ScoreRanking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Objective which only sends scores with the highest values. All scores are kept in a ranking
+ * ordered like the client orders them, only the first {@link #getDisplayLimit()} of them are
+ * sent. When a change moves a score across the boundary of the displayed range, exactly one
+ * other score crosses it in the opposite direction, so a change produces at most two packets.
+ * <p>
+ * In a broadcast group, the ranking is guarded by the monitor of the group, which the group also
+ * sends packets under, so no other lock ordering is introduced. In a scoreboard of a single viewer,
+ * it is guarded by a lock of this objective. Packets are handed to the event loop of the viewer
+ * while holding it, so they are sent in the same order as the ranking changed. No method waits
+ * for an event loop.
+ */
+public class VelocityLeaderboardObjective extends VelocityObjective implements LeaderboardObjective {
+
+    /** Maximum amount of displayed scores */
+    private final int displayLimit;
+
+    /** All scores of this objective ordered by value */
+    private final ScoreRanking<VelocityScore> ranking = new ScoreRanking<>();
+
+    /** Lock guarding the ranking, the group itself for objectives of a broadcast group */
+    @NotNull
+    private final Object lock;
+
+    protected VelocityLeaderboardObjective(@NotNull VelocityScoreboard scoreboard, @NotNull String name, @NotNull TextHolder title,
+                                           @NotNull HealthDisplay healthDisplay, @Nullable NumberFormat numberFormat,
+                                           @Nullable DisplaySlot displaySlot, int displayLimit) {
+        super(scoreboard, name, title, healthDisplay, numberFormat, displaySlot);
+        this.displayLimit = displayLimit;
+        this.lock = scoreboard instanceof VelocityBroadcastGroup ? scoreboard : new Object();
+    }
+
+    @Override
+    public int getDisplayLimit() {
+        return displayLimit;
+    }
+
+    @Override
+    public int getRank(@NotNull String holder) {
+        checkState();
+        int rank;
+        synchronized (lock) {
+            rank = ranking.rank(holder);
+        }
+        if (rank == -1) throw new IllegalArgumentException("Score \"" + holder + "\" is not in this objective (" + getName() + ")");
+        return rank;
+    }
+
+    @Override
+    @NotNull
+    public List<ProxyScore> getTopScores(int count) {
+        checkState();
+        synchronized (lock) {
+            return new ArrayList<>(ranking.top(count));
+        }
+    }
+
+    @Override
+    @NotNull
+    public Collection<VelocityScore> getDisplayedScores() {
+        synchronized (lock) {
+            return ranking.top(displayLimit);
+        }
+    }
+
+    @Override
+    public boolean isDisplayed(@NotNull VelocityScore score) {
+        synchronized (lock) {
+            int rank = ranking.rank(score.getHolder());
+            return rank != -1 && rank < displayLimit;
+        }
+    }
+
+    @Override
+    public void sendScoreUpdate(@NotNull VelocityScore score) {
+        synchronized (lock) {
+            int oldRank = ranking.rank(score.getHolder());
+            ranking.put(score.getHolder(), score.getScore(), score);
+            int newRank = ranking.rank(score.getHolder());
+            boolean wasDisplayed = oldRank != -1 && oldRank < displayLimit;
+            boolean displayed = newRank < displayLimit;
+            if (displayed) {
+                super.sendScoreUpdate(score);
+                if (!wasDisplayed && ranking.size() > displayLimit) {
+                    // Score entered the displayed range and pushed the last one out
+                    super.sendScoreRemove(ranking.get(displayLimit));
+                }
+            } else if (wasDisplayed) {
+                // Score left the displayed range and the first hidden one took its place
+                super.sendScoreRemove(score);
+                super.sendScoreUpdate(ranking.get(displayLimit - 1));
+            }
+        }
+    }
+
+    @Override
+    public void sendScoreRemove(@NotNull VelocityScore score) {
+        synchronized (lock) {
+            int rank = ranking.rank(score.getHolder());
+            if (rank == -1) return;
+            ranking.remove(score.getHolder());
+            if (rank >= displayLimit) return;
+            super.sendScoreRemove(score);
+            if (ranking.size() >= displayLimit) {
+                super.sendScoreUpdate(ranking.get(displayLimit - 1));
+            }
+        }
+    }
+}
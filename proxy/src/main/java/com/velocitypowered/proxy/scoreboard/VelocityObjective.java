@@ -22,7 +22,9 @@ package com.velocitypowered.proxy.scoreboard;
 
 import com.velocitypowered.api.TextHolder;
 import com.velocitypowered.api.event.scoreboard.ObjectiveEvent;
+import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.scoreboard.*;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.DisplayObjectivePacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket.ObjectiveAction;
@@ -32,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
@@ -44,9 +47,10 @@ public class VelocityObjective implements ProxyObjective {
     @Nullable private NumberFormat numberFormat;
     @Nullable private DisplaySlot displaySlot;
     private boolean registered = true;
+    private volatile boolean materialized;
     private final Map<String, VelocityScore> scores = new ConcurrentHashMap<>();
 
-    private VelocityObjective(@NotNull VelocityScoreboard scoreboard, @NotNull String name, @NotNull TextHolder title,
+    protected VelocityObjective(@NotNull VelocityScoreboard scoreboard, @NotNull String name, @NotNull TextHolder title,
                              @NotNull HealthDisplay healthDisplay, @Nullable NumberFormat numberFormat, @Nullable DisplaySlot displaySlot) {
         this.scoreboard = scoreboard;
         this.name = name;
@@ -54,6 +58,7 @@ public class VelocityObjective implements ProxyObjective {
         this.healthDisplay = healthDisplay;
         this.numberFormat = numberFormat;
         this.displaySlot = displaySlot;
+        this.materialized = !VelocityScoreboard.isLazyMaterialization() || displaySlot != null;
         if (displaySlot != null) scoreboard.setDisplaySlot(displaySlot, this);
     }
 
@@ -98,14 +103,20 @@ public class VelocityObjective implements ProxyObjective {
         if (this.displaySlot == displaySlot) return;
         scoreboard.setDisplaySlot(displaySlot, this);
         this.displaySlot = displaySlot;
-        scoreboard.sendPacket(new DisplayObjectivePacket(displaySlot, name));
-        scoreboard.getEventSource().fireEvent(new ObjectiveEvent.Display(scoreboard.getViewer(), scoreboard, this, displaySlot));
+        if (materialized) {
+            scoreboard.sendPacket(new DisplayObjectivePacket(displaySlot, name));
+        } else {
+            materialized = true;
+            sendRegister();
+            sendScores();
+        }
+        scoreboard.fireEvent(viewer -> new ObjectiveEvent.Display(viewer, scoreboard, this, displaySlot));
     }
 
     @Override
     public void setTitle(@NotNull TextHolder title) {
         checkState();
-        if (this.title == title) return;
+        if (this.title.equals(title)) return;
         this.title = title;
         sendUpdate();
     }
@@ -121,7 +132,7 @@ public class VelocityObjective implements ProxyObjective {
     @Override
     public void setNumberFormat(@Nullable NumberFormat numberFormat) {
         checkState();
-        if (this.numberFormat == numberFormat) return;
+        if (Objects.equals(this.numberFormat, numberFormat)) return;
         this.numberFormat = numberFormat;
         sendUpdate();
     }
@@ -138,11 +149,38 @@ public class VelocityObjective implements ProxyObjective {
         } else {
             score = builder.build(this);
             scores.put(score.getHolder(), score);
+            scoreboard.getHolderIndex().add(holder, this);
             score.sendUpdate();
         }
         return score;
     }
 
+    @Override
+    @NotNull
+    public ProxyScore setScore(@NotNull String holder, int value) {
+        checkState();
+        VelocityScore score = scores.get(holder);
+        if (score != null) {
+            score.setScore(value);
+        } else {
+            VelocityScore.Builder builder = new VelocityScore.Builder(holder);
+            builder.score(value);
+            score = builder.build(this);
+            scores.put(score.getHolder(), score);
+            scoreboard.getHolderIndex().add(holder, this);
+            score.sendUpdate();
+        }
+        return score;
+    }
+
+    @Override
+    public int getScoreValue(@NotNull String holder) {
+        checkState();
+        VelocityScore score = scores.get(holder);
+        if (score == null) throw new IllegalArgumentException("Score \"" + holder + "\" is not in this objective (" + name + ")");
+        return score.getScore();
+    }
+
     @Override
     @Nullable
     public ProxyScore getScore(@NotNull String holder) {
@@ -162,9 +200,113 @@ public class VelocityObjective implements ProxyObjective {
         if (score == null) throw new IllegalArgumentException("Score \"" + holder + "\" is not in this objective (" + name + ")");
         score.remove();
         scores.remove(holder);
+        scoreboard.getHolderIndex().remove(holder, this);
+    }
+
+    /**
+     * Returns scores which are sent to viewers.
+     *
+     * @return  Scores sent to viewers
+     */
+    @NotNull
+    public Collection<VelocityScore> getDisplayedScores() {
+        return scores.values();
+    }
+
+    /**
+     * Returns holders of all scores in this objective.
+     *
+     * @return  Holders of all scores
+     */
+    @NotNull
+    public Collection<String> getHolders() {
+        return scores.keySet();
+    }
+
+    /**
+     * Passes packets setting all displayed scores of this objective to given action.
+     *
+     * @param   version
+     *          Protocol version of the viewer
+     * @param   action
+     *          Action to pass packets to
+     */
+    public void forEachScorePacket(@NotNull ProtocolVersion version, @NotNull Consumer<MinecraftPacket> action) {
+        for (VelocityScore score : getDisplayedScores()) {
+            action.accept(score.createUpdatePacket(version));
+        }
+    }
+
+    /**
+     * Creates packet setting score of given holder if it is displayed.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   version
+     *          Protocol version of the viewer
+     * @return  Packet setting the score or {@code null} if there is no such displayed score
+     */
+    @Nullable
+    public MinecraftPacket createScorePacket(@NotNull String holder, @NotNull ProtocolVersion version) {
+        VelocityScore score = scores.get(holder);
+        if (score == null || !isDisplayed(score)) return null;
+        return score.createUpdatePacket(version);
+    }
+
+    /**
+     * Sends all displayed scores of this objective to viewers.
+     */
+    protected void sendScores() {
+        for (VelocityScore score : getDisplayedScores()) {
+            scoreboard.sendScoreUpdate(score);
+        }
+    }
+
+    /**
+     * Returns whether given score of this objective is sent to viewers.
+     *
+     * @param   score
+     *          Score of this objective
+     * @return  {@code true} if the score is sent to viewers, {@code false} if not
+     */
+    public boolean isDisplayed(@NotNull VelocityScore score) {
+        return true;
+    }
+
+    /**
+     * Sends new value of given score of this objective to viewers.
+     *
+     * @param   score
+     *          Changed score
+     */
+    public void sendScoreUpdate(@NotNull VelocityScore score) {
+        if (!materialized) return;
+        scoreboard.sendScoreUpdate(score);
+    }
+
+    /**
+     * Sends removal of given score of this objective to viewers.
+     *
+     * @param   score
+     *          Removed score
+     */
+    public void sendScoreRemove(@NotNull VelocityScore score) {
+        if (!materialized) return;
+        scoreboard.sendScoreRemove(score);
+    }
+
+    /**
+     * Returns whether this objective was sent to viewers. With lazy materialization, objectives
+     * are only sent once they are assigned a display slot, until then they are kept on the proxy.
+     *
+     * @return  {@code true} if this objective was sent to viewers, {@code false} if not
+     */
+    public boolean isMaterialized() {
+        return materialized;
     }
 
     public void sendRegister() {
+        if (!materialized) return;
         scoreboard.sendPacket(new ObjectivePacket(ObjectiveAction.REGISTER, name, title, healthDisplay, numberFormat));
         if (displaySlot != null) {
             scoreboard.sendPacket(new DisplayObjectivePacket(displaySlot, name));
@@ -172,13 +314,14 @@ public class VelocityObjective implements ProxyObjective {
     }
 
     private void sendUpdate() {
+        if (!materialized) return;
         scoreboard.sendPacket(new ObjectivePacket(ObjectiveAction.UPDATE, name, title, healthDisplay, numberFormat));
     }
 
     public void unregister() {
         checkState();
-        scoreboard.sendPacket(new ObjectivePacket(ObjectiveAction.UNREGISTER, name, title, HealthDisplay.INTEGER, null));
-        scoreboard.getEventSource().fireEvent(new ObjectiveEvent.Unregister(scoreboard.getViewer(), scoreboard, this));
+        if (materialized) scoreboard.sendPacket(new ObjectivePacket(ObjectiveAction.UNREGISTER, name, title, HealthDisplay.INTEGER, null));
+        scoreboard.fireEvent(viewer -> new ObjectiveEvent.Unregister(viewer, scoreboard, this));
         registered = false;
     }
 
@@ -186,7 +329,7 @@ public class VelocityObjective implements ProxyObjective {
         this.displaySlot = null;
     }
 
-    private void checkState() {
+    protected void checkState() {
         if (!registered) throw new IllegalStateException("This objective (" + name + ") was unregistered");
     }
 
@@ -197,6 +340,8 @@ public class VelocityObjective implements ProxyObjective {
         @NotNull private HealthDisplay healthDisplay = HealthDisplay.INTEGER;
         @Nullable private DisplaySlot displaySlot = null;
         @Nullable private NumberFormat numberFormat = null;
+        private int displayLimit = 0;
+        private boolean table = false;
 
         public Builder(@NotNull String name) {
             if (name.length() > 16) throw new IllegalArgumentException("Objective name cannot be longer than 16 characters (was " + name.length() + ": " + name + ")");
@@ -232,6 +377,25 @@ public class VelocityObjective implements ProxyObjective {
             return this;
         }
 
+        @Override
+        @NotNull
+        public ProxyObjective.Builder leaderboard(int displayLimit) {
+            if (displayLimit <= 0) throw new IllegalArgumentException("Display limit must be positive (was " + displayLimit + ")");
+            this.displayLimit = displayLimit;
+            return this;
+        }
+
+        /**
+         * Makes this objective store plain score values for a shared objective.
+         *
+         * @return  this, for chaining
+         */
+        @NotNull
+        public Builder table() {
+            this.table = true;
+            return this;
+        }
+
         /**
          * Builds this objective.
          *
@@ -241,6 +405,13 @@ public class VelocityObjective implements ProxyObjective {
          */
         @NotNull
         public VelocityObjective build(@NotNull VelocityScoreboard scoreboard) {
+            if (table) {
+                if (displayLimit > 0) throw new IllegalArgumentException("Shared objective (" + name + ") cannot be a leaderboard");
+                return new VelocityTableObjective(scoreboard, name, title, healthDisplay, numberFormat, displaySlot);
+            }
+            if (displayLimit > 0) {
+                return new VelocityLeaderboardObjective(scoreboard, name, title, healthDisplay, numberFormat, displaySlot, displayLimit);
+            }
             return new VelocityObjective(scoreboard, name, title, healthDisplay, numberFormat, displaySlot);
         }
     }
@@ -23,7 +23,8 @@ package com.velocitypowered.proxy.scoreboard;
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.api.scoreboard.ProxyScore;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ScorePacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreResetPacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreSetPacket;
@@ -31,13 +32,16 @@ import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
+
 public class VelocityScore implements ProxyScore {
 
     @NotNull private final VelocityObjective objective;
     @NotNull private final String holder;
-    private int score;
-    @Nullable private Component displayName;
-    @Nullable private NumberFormat numberFormat;
+    private volatile int score;
+    @Nullable private volatile Component displayName;
+    @Nullable private volatile TextHolderImpl displayNameText;
+    @Nullable private volatile NumberFormat numberFormat;
     private boolean registered = true;
 
     private VelocityScore(@NotNull VelocityObjective objective, @NotNull String holder, int score,
@@ -45,7 +49,7 @@ public class VelocityScore implements ProxyScore {
         this.objective = objective;
         this.holder = holder;
         this.score = score;
-        this.displayName = displayName;
+        setDisplayNameText(displayName);
         this.numberFormat = numberFormat;
     }
 
@@ -83,41 +87,95 @@ public class VelocityScore implements ProxyScore {
     @Override
     public void setDisplayName(@Nullable Component displayName) {
         if (!registered) throw new IllegalStateException("This score was unregistered");
-        if (this.displayName == displayName) return;
-        this.displayName = displayName;
+        if (Objects.equals(this.displayName, displayName)) return;
+        setDisplayNameText(displayName);
         sendUpdate();
     }
 
     @Override
     public void setNumberFormat(@Nullable NumberFormat numberFormat) {
         if (!registered) throw new IllegalStateException("This score was unregistered");
-        if (this.numberFormat == numberFormat) return;
+        if (Objects.equals(this.numberFormat, numberFormat)) return;
         this.numberFormat = numberFormat;
         sendUpdate();
     }
 
     public void updateProperties(@NotNull VelocityScore.Builder builder) {
         if (!registered) throw new IllegalStateException("This score was unregistered");
+        if (score == builder.score && Objects.equals(displayName, builder.displayName)
+                && Objects.equals(numberFormat, builder.numberFormat)) return;
         this.score = builder.score;
-        this.displayName = builder.displayName;
+        setDisplayNameText(builder.displayName);
         this.numberFormat = builder.numberFormat;
         sendUpdate();
     }
 
+    /**
+     * Sets display name together with text holder which caches its serialized form,
+     * so it is not serialized again for every packet.
+     *
+     * @param   displayName
+     *          New display name
+     */
+    private void setDisplayNameText(@Nullable Component displayName) {
+        this.displayName = displayName;
+        this.displayNameText = displayName == null ? null : new TextHolderImpl(displayName);
+    }
+
     public void sendUpdate() {
-        if (objective.getScoreboard().getViewer().getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-            ComponentHolder cHolder = displayName == null ? null : new ComponentHolder(objective.getScoreboard().getViewer().getProtocolVersion(), displayName);
-            objective.getScoreboard().sendPacket(new ScoreSetPacket(holder, objective.getName(), score, cHolder, numberFormat));
+        objective.sendScoreUpdate(this);
+    }
+
+    public void sendRemove() {
+        objective.sendScoreRemove(this);
+    }
+
+    /**
+     * Creates packet setting this score for given protocol version.
+     *
+     * @param   version
+     *          Protocol version of the viewer
+     * @return  Packet setting this score
+     */
+    @NotNull
+    public MinecraftPacket createUpdatePacket(@NotNull ProtocolVersion version) {
+        return createUpdatePacket(version, score);
+    }
+
+    /**
+     * Creates packet setting this score to given value for given protocol version. The value is
+     * read by the caller when the change is sent, so a packet created later on the event loop
+     * of a viewer contains the value from the time of the change. Display name and number
+     * format are read when the packet is created, they are published through volatile fields.
+     *
+     * @param   version
+     *          Protocol version of the viewer
+     * @param   score
+     *          Score value to send
+     * @return  Packet setting this score
+     */
+    @NotNull
+    public MinecraftPacket createUpdatePacket(@NotNull ProtocolVersion version, int score) {
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+            return new ScoreSetPacket(holder, objective.getName(), score, displayNameText, numberFormat);
         } else {
-            objective.getScoreboard().sendPacket(new ScorePacket(ScorePacket.ScoreAction.SET, holder, objective.getName(), score));
+            return new ScorePacket(ScorePacket.ScoreAction.SET, holder, objective.getName(), score);
         }
     }
 
-    public void sendRemove() {
-        if (objective.getScoreboard().getViewer().getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-            objective.getScoreboard().sendPacket(new ScoreResetPacket(holder, objective.getName()));
+    /**
+     * Creates packet removing this score for given protocol version.
+     *
+     * @param   version
+     *          Protocol version of the viewer
+     * @return  Packet removing this score
+     */
+    @NotNull
+    public MinecraftPacket createRemovePacket(@NotNull ProtocolVersion version) {
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+            return new ScoreResetPacket(holder, objective.getName());
         } else {
-            objective.getScoreboard().sendPacket(new ScorePacket(ScorePacket.ScoreAction.RESET, holder, objective.getName(), 0));
+            return new ScorePacket(ScorePacket.ScoreAction.RESET, holder, objective.getName(), 0);
         }
     }
 
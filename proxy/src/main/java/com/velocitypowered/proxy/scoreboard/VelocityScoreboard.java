@@ -24,60 +24,271 @@ import com.velocitypowered.api.event.scoreboard.ObjectiveEvent;
 import com.velocitypowered.api.event.scoreboard.ScoreboardEventSource;
 import com.velocitypowered.api.event.scoreboard.TeamEvent;
 import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.scoreboard.*;
 import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.data.CoalescingPacketQueue;
+import com.velocitypowered.proxy.data.LoggerManager;
+import com.velocitypowered.proxy.data.PacketEncoder;
+import com.velocitypowered.proxy.data.ScoreHolderIndex;
 import com.velocitypowered.proxy.data.StringCollection;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.protocol.StateRegistry;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket.ObjectiveAction;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamObjective;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScore;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamTeam;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.event.Level;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class VelocityScoreboard implements ProxyScoreboard {
 
     public static final ProtocolVersion MAXIMUM_SUPPORTED_VERSION = ProtocolVersion.MINECRAFT_1_21;
 
+    /** Whether packets should be collected and flushed once per tick instead of being written immediately */
+    private static boolean coalescePackets;
+
+    /** Backend servers whose score, team and objective updates are coalesced and flushed once per tick */
+    private static Set<String> coalescedServers = Collections.emptySet();
+
+    /** Whether packets written together should be wrapped in bundle delimiters for 1.19.4+ viewers */
+    private static boolean bundlePackets;
+
+    /** Whether objectives without a display slot and teams without entries are only sent once they become visible */
+    private static boolean lazyMaterialization;
+
+    /** Whether to verify that packets are only sent from the event loop of the viewer */
+    private static boolean verifyConfinement;
+
+    /** Maximum amount of packets held back while frozen, the scoreboard is resent once exceeded */
+    private static final int MAXIMUM_FROZEN_PACKETS = 4096;
+
+    /** Time in milliseconds after which a frozen scoreboard is resent even if resend was not called */
+    private static long freezeTimeout = 5000;
+
+    /** Amount of bytes written between flushes when resending the scoreboard */
+    private static final int RESEND_CHUNK_SIZE = 32 * 1024;
+
+    /** Scoreboards with coalesced packets waiting for the flush at the end of tick */
+    private static final Queue<VelocityScoreboard> pendingFlush = new ConcurrentLinkedQueue<>();
+
     @NotNull
     private final ScoreboardEventSource eventSource;
 
-    @NotNull
+    /** Viewer of this scoreboard, {@code null} for broadcast groups */
     private final ConnectedPlayer viewer;
 
+    /** Event loop of the viewer, which sends all packets, {@code null} for broadcast groups */
+    private final EventLoop eventLoop;
+
     private final Map<String, VelocityObjective> objectives = new ConcurrentHashMap<>();
     private final Map<String, VelocityTeam> teams = new ConcurrentHashMap<>();
     private final Map<DisplaySlot, VelocityObjective> displaySlots = new ConcurrentHashMap<>();
     private final Map<String, VelocityTeam> teamEntries = new ConcurrentHashMap<>();
+    /** Objectives of this scoreboard containing a score by score holder */
+    private final ScoreHolderIndex<VelocityObjective> holderIndex = new ScoreHolderIndex<>();
+    /** Backend scoreboard of the viewer, {@code null} for broadcast groups */
     private final DownstreamScoreboard downstream;
-    private final Queue<MinecraftPacket> packetQueue = new ConcurrentLinkedDeque<>();
+    /** Packets sent while frozen, superseded updates are replaced */
+    private final CoalescingPacketQueue frozenPackets = new CoalescingPacketQueue();
+    private final CoalescingPacketQueue pendingPackets = new CoalescingPacketQueue();
+    /** Value updates from backend held back until the end of tick, always newer than pending proxy packets */
+    private final CoalescingPacketQueue downstreamPackets = new CoalescingPacketQueue();
+
+    /** Broadcast groups this viewer is member of */
+    private final List<VelocityBroadcastGroup> groups = new CopyOnWriteArrayList<>();
+
+    /** Properties of broadcast group teams overridden for this viewer, only accessed from the event loop */
+    private final Map<VelocityTeam, VelocityTeam.PropertyBuilder> teamOverrides = new HashMap<>();
 
     /** Flag tracking if this scoreboard is frozen. While frozen, no packets will get through. */
     private boolean frozen;
 
+    /** Counter of freezes, so a timed out freeze check does not resend a newer freeze */
+    private int freezeCount;
+
+    /** Encoded packets of a resend which were not written yet, {@code null} if no resend is in progress */
+    @Nullable
+    private ArrayDeque<ByteBuf> resendQueue;
+
+    /** Depth of nested batches, packets are collected instead of written while greater than 0 */
+    private int batchDepth;
+
+    /** Flag tracking if this scoreboard is waiting in {@link #pendingFlush} */
+    private boolean flushScheduled;
+
+    /** Time in nanoseconds when the resend in progress was started */
+    private long resendStart;
+
+    /** Total size of encoded packets of the resend in progress in bytes */
+    private long resendSize;
+
     public VelocityScoreboard(@NotNull ScoreboardEventSource eventSource, @NotNull ConnectedPlayer viewer,
                               @NotNull DownstreamScoreboard downstream) {
         this.eventSource = eventSource;
         this.viewer = viewer;
+        this.eventLoop = viewer.getConnection().eventLoop();
         this.downstream = downstream;
     }
 
+    /**
+     * Constructs new instance without a viewer, used by broadcast groups. Viewer, event loop
+     * and backend scoreboard are left unset, the group overrides every method using them.
+     *
+     * @param   eventSource
+     *          Source to fire events with
+     */
+    protected VelocityScoreboard(@NotNull ScoreboardEventSource eventSource) {
+        this.eventSource = eventSource;
+        this.viewer = null;
+        this.eventLoop = null;
+        this.downstream = null;
+    }
+
+    /**
+     * Sets whether packets should be coalesced and flushed once per tick instead of being written immediately.
+     *
+     * @param   coalescePackets
+     *          {@code true} to coalesce packets, {@code false} to write them immediately
+     */
+    public static void setCoalescePackets(boolean coalescePackets) {
+        VelocityScoreboard.coalescePackets = coalescePackets;
+    }
+
+    /**
+     * Sets backend servers whose value updates (scores, team and objective updates, display slots)
+     * should be held back and only the latest value flushed once per tick.
+     *
+     * @param   servers
+     *          Names of servers to coalesce packets of
+     */
+    public static void setCoalescedServers(@NotNull Collection<String> servers) {
+        VelocityScoreboard.coalescedServers = Set.copyOf(servers);
+    }
+
+    /**
+     * Returns {@code true} if value updates from given backend server are coalesced, {@code false} if not.
+     *
+     * @param   server
+     *          Name of the server
+     * @return  {@code true} if packets of the server are coalesced, {@code false} if not
+     */
+    public static boolean isCoalescedServer(@NotNull String server) {
+        return coalescedServers.contains(server);
+    }
+
+    /**
+     * Returns {@code true} if any packets are coalesced and need to be flushed once per tick,
+     * {@code false} if not.
+     *
+     * @return  {@code true} if any packets are coalesced, {@code false} if not
+     */
+    public static boolean isFlushNeeded() {
+        return coalescePackets || !coalescedServers.isEmpty();
+    }
+
+    /**
+     * Sets whether packets written together should be wrapped in bundle delimiters, so 1.19.4+
+     * clients apply them in a single tick.
+     *
+     * @param   bundlePackets
+     *          {@code true} to bundle packets, {@code false} to write them as they are
+     */
+    public static void setBundlePackets(boolean bundlePackets) {
+        VelocityScoreboard.bundlePackets = bundlePackets;
+    }
+
+    /**
+     * Sets whether objectives without a display slot and teams without entries should only be
+     * sent to the client once they become visible. Only affects objectives and teams registered
+     * after this call.
+     *
+     * @param   lazyMaterialization
+     *          {@code true} to send them once visible, {@code false} to send them right away
+     */
+    public static void setLazyMaterialization(boolean lazyMaterialization) {
+        VelocityScoreboard.lazyMaterialization = lazyMaterialization;
+    }
+
+    /**
+     * Returns {@code true} if objectives and teams are only sent once they become visible, {@code false} if not.
+     *
+     * @return  {@code true} if objectives and teams are sent once visible, {@code false} if not
+     */
+    public static boolean isLazyMaterialization() {
+        return lazyMaterialization;
+    }
+
+    /**
+     * Returns {@code true} if packets are coalesced and flushed once per tick, {@code false} if not.
+     *
+     * @return  {@code true} if packets are coalesced, {@code false} if not
+     */
+    public static boolean isCoalescePackets() {
+        return coalescePackets;
+    }
+
+    /**
+     * Sets whether packet sending should verify it runs in the event loop of the viewer
+     * and throw an exception if it does not.
+     *
+     * @param   verifyConfinement
+     *          {@code true} to verify the thread, {@code false} to skip the check
+     */
+    public static void setVerifyConfinement(boolean verifyConfinement) {
+        VelocityScoreboard.verifyConfinement = verifyConfinement;
+    }
+
+    /**
+     * Sets time after which a frozen scoreboard is resent even if the scheduled resend did not run.
+     *
+     * @param   freezeTimeout
+     *          Timeout in milliseconds, {@code 0} or less to disable
+     */
+    public static void setFreezeTimeout(long freezeTimeout) {
+        VelocityScoreboard.freezeTimeout = freezeTimeout;
+    }
+
     @NotNull
     public ConnectedPlayer getViewer() {
         return viewer;
     }
 
+    /**
+     * Returns backend scoreboard of the viewer.
+     *
+     * @return  Backend scoreboard of the viewer
+     */
+    @NotNull
+    public DownstreamScoreboard getDownstream() {
+        return downstream;
+    }
+
     @Override
     @NotNull
     public VelocityTeam.Builder teamBuilder(@NotNull String name) {
@@ -104,10 +315,10 @@ public class VelocityScoreboard implements ProxyScoreboard {
             throw new IllegalStateException("An objective with this name (" + objective.getName() + ") already exists in this scoreboard");
         }
         objective.sendRegister();
-        eventSource.fireEvent(new ObjectiveEvent.Register(viewer, this, objective));
+        fireEvent(viewer -> new ObjectiveEvent.Register(viewer, this, objective));
         if (objective.getDisplaySlot() != null) {
             displaySlots.put(objective.getDisplaySlot(), objective);
-            eventSource.fireEvent(new ObjectiveEvent.Display(viewer, this, objective, objective.getDisplaySlot()));
+            fireEvent(viewer -> new ObjectiveEvent.Display(viewer, this, objective, objective.getDisplaySlot()));
         }
         return objective;
     }
@@ -123,14 +334,32 @@ public class VelocityScoreboard implements ProxyScoreboard {
         return Collections.unmodifiableCollection(objectives.values());
     }
 
+    @NotNull
+    public Collection<VelocityObjective> getObjectivesRaw() {
+        return objectives.values();
+    }
+
     @Override
     public void unregisterObjective(@NotNull String objectiveName) throws IllegalStateException {
         VelocityObjective objective = objectives.remove(objectiveName);
         if (objective == null) throw new IllegalStateException("This scoreboard does not contain an objective named " + objectiveName);
         displaySlots.entrySet().removeIf(entry -> entry.getValue().getName().equals(objectiveName));
+        for (String holder : objective.getHolders()) {
+            holderIndex.remove(holder, objective);
+        }
         objective.unregister();
     }
 
+    /**
+     * Returns index of objectives containing a score by score holder.
+     *
+     * @return  Index of objectives by score holder
+     */
+    @NotNull
+    public ScoreHolderIndex<VelocityObjective> getHolderIndex() {
+        return holderIndex;
+    }
+
     @NotNull
     @Override
     public VelocityTeam registerTeam(@NotNull ProxyTeam.Builder builder) {
@@ -153,7 +382,7 @@ public class VelocityScoreboard implements ProxyScoreboard {
         }
 
         team.sendRegister();
-        eventSource.fireEvent(new TeamEvent.Register(viewer, this, team));
+        fireEvent(viewer -> new TeamEvent.Register(viewer, this, team));
         return team;
     }
 
@@ -169,6 +398,12 @@ public class VelocityScoreboard implements ProxyScoreboard {
         return Collections.unmodifiableCollection(teams.values());
     }
 
+    @Override
+    @Nullable
+    public VelocityTeam getTeamByEntry(@NotNull String entry) {
+        return teamEntries.get(entry);
+    }
+
     @NotNull
     public Collection<VelocityTeam> getTeamsRaw() {
         return teams.values();
@@ -208,19 +443,67 @@ public class VelocityScoreboard implements ProxyScoreboard {
      * Resends the entire scoreboard. This function is called on server switch. It mostly performs a raw
      * packet write instead of calling existing register functions to skip checks and avoid
      * potentially incorrect behavior, such as when a team/objective name is on both proxy and backend.
+     * <p>
+     * All packets are encoded up front and written in chunks while the channel is writable, so
+     * a large scoreboard does not fill the outbound buffer of the player at once. If the channel
+     * becomes unwritable, writing continues in {@link #continueResend()}. The scoreboard stays
+     * frozen until the last packet is written.
+     * <p>
+     * Packets held back before the resend started are already part of the resent state, so they
+     * are discarded. Only packets queued while the resend is being written are sent after it.
+     * <p>
+     * If the scoreboard is not frozen or a resend is already in progress, nothing happens. The resend
+     * scheduled after a freeze may run after the scoreboard was already resent because of too many held
+     * back packets or the freeze timeout, sending everything again would duplicate it on the client.
      */
-    public synchronized void resend() {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        for (VelocityTeam team : teams.values()) {
-            viewer.getConnection().write(new TeamPacket(
+    public void resend() {
+        runInEventLoop(() -> {
+            if (!frozen || resendQueue != null) return;
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            List<MinecraftPacket> packets = new ArrayList<>();
+            collectResend(packets, teams.values(), objectives.values());
+            for (VelocityBroadcastGroup group : groups) {
+                collectResend(packets, group.getTeamsRaw(), group.getObjectivesRaw());
+            }
+            ProtocolVersion version = viewer.getProtocolVersion();
+            ByteBufAllocator allocator = viewer.getConnection().getChannel().alloc();
+            ArrayDeque<ByteBuf> queue = new ArrayDeque<>(packets.size());
+            long size = 0;
+            try {
+                for (MinecraftPacket packet : packets) {
+                    ByteBuf buf = PacketEncoder.encode(allocator, packet, version);
+                    queue.add(buf);
+                    size += buf.readableBytes();
+                }
+            } catch (Throwable t) {
+                for (ByteBuf buf : queue) {
+                    buf.release();
+                }
+                throw t;
+            }
+            frozenPackets.clear();
+            pendingPackets.clear();
+            resendQueue = queue;
+            resendStart = System.nanoTime();
+            resendSize = size;
+            continueResend();
+        });
+    }
+
+    private void collectResend(@NotNull List<MinecraftPacket> packets, @NotNull Collection<VelocityTeam> teams,
+                               @NotNull Collection<VelocityObjective> objectives) {
+        for (VelocityTeam team : teams) {
+            if (!team.isMaterialized()) continue;
+            packets.add(new TeamPacket(
                     TeamPacket.TeamAction.REGISTER,
                     team.getName(),
-                    team.getProperties(),
+                    getEffectiveProperties(team),
                     team.getEntryCollection()
             ));
         }
-        for (VelocityObjective objective : objectives.values()) {
-            viewer.getConnection().write(new ObjectivePacket(
+        for (VelocityObjective objective : objectives) {
+            if (!objective.isMaterialized()) continue;
+            packets.add(new ObjectivePacket(
                     ObjectiveAction.REGISTER,
                     objective.getName(),
                     objective.getTitle(),
@@ -228,21 +511,283 @@ public class VelocityScoreboard implements ProxyScoreboard {
                     objective.getNumberFormat()
             ));
             if (objective.getDisplaySlot() != null) {
-                viewer.getConnection().write(new DisplayObjectivePacket(
+                packets.add(new DisplayObjectivePacket(
                         objective.getDisplaySlot(),
                         objective.getName()
                 ));
             }
-            for (ProxyScore score : objective.getAllScores()) {
-                if (viewer.getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-                    ComponentHolder cHolder = score.getDisplayName() == null ? null : new ComponentHolder(objective.getScoreboard().getViewer().getProtocolVersion(), score.getDisplayName());
-                    viewer.getConnection().write(new ScoreSetPacket(score.getHolder(), objective.getName(), score.getScore(), cHolder, score.getNumberFormat()));
-                } else {
-                    viewer.getConnection().write(new ScorePacket(ScorePacket.ScoreAction.SET, score.getHolder(), objective.getName(), score.getScore()));
+            objective.forEachScorePacket(viewer.getProtocolVersion(), packets::add);
+        }
+    }
+
+    /**
+     * Continues writing the resend in progress, if any. Packets are written and flushed in chunks
+     * until everything is written or the channel stops being writable. Called again once the
+     * channel becomes writable. When the last packet is written, packets held back during the
+     * freeze are sent and the scoreboard is unfrozen.
+     */
+    @ApiStatus.Internal
+    public void continueResend() {
+        runInEventLoop(() -> {
+            if (resendQueue == null) return;
+            Channel channel = viewer.getConnection().getChannel();
+            while (!resendQueue.isEmpty() && channel.isWritable()) {
+                int written = 0;
+                while (!resendQueue.isEmpty() && written < RESEND_CHUNK_SIZE) {
+                    ByteBuf buf = resendQueue.poll();
+                    written += buf.readableBytes();
+                    viewer.getConnection().delayedWrite(buf);
+                }
+                viewer.getConnection().flush();
+            }
+            if (!resendQueue.isEmpty()) return;
+            resendQueue = null;
+            LoggerManager.log(Level.DEBUG, "Resent scoreboard of player " + viewer.getUsername() + " (" + resendSize +
+                    " bytes) in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - resendStart) + "ms");
+            processQueue();
+        });
+    }
+
+    /**
+     * Cancels the resend in progress, if any, and releases packets which were not written yet.
+     * Called when the player disconnects.
+     */
+    @ApiStatus.Internal
+    public void cancelResend() {
+        runInEventLoop(this::cancelResend0);
+    }
+
+    private void cancelResend0() {
+        if (resendQueue == null) return;
+        for (ByteBuf buf : resendQueue) {
+            buf.release();
+        }
+        resendQueue = null;
+    }
+
+    /**
+     * Adds this viewer into a broadcast group and sends everything the group contains.
+     * Objectives and teams are sent through the same conflict resolution with backend
+     * scoreboard as objectives and teams of this scoreboard.
+     *
+     * @param   group
+     *          Group the viewer was added to
+     */
+    @ApiStatus.Internal
+    public void joinGroup(@NotNull VelocityBroadcastGroup group) {
+        runBatched(() -> {
+            groups.add(group);
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            for (VelocityTeam team : group.getTeamsRaw()) {
+                if (!team.isMaterialized()) continue;
+                sendPacket(new TeamPacket(TeamPacket.TeamAction.REGISTER, team.getName(), team.getProperties(), team.getEntryCollection()), team);
+            }
+            for (VelocityObjective objective : group.getObjectivesRaw()) {
+                if (!objective.isMaterialized()) continue;
+                sendPacket(new ObjectivePacket(ObjectiveAction.REGISTER, objective.getName(), objective.getTitle(), objective.getHealthDisplay(), objective.getNumberFormat()));
+                if (objective.getDisplaySlot() != null) {
+                    sendPacket(new DisplayObjectivePacket(objective.getDisplaySlot(), objective.getName()));
                 }
+                objective.forEachScorePacket(viewer.getProtocolVersion(), this::queuePacket);
+            }
+        });
+    }
+
+    /**
+     * Removes this viewer from a broadcast group and unregisters everything the group contains,
+     * restoring backend objectives and teams that were hidden by it.
+     *
+     * @param   group
+     *          Group the viewer was removed from
+     */
+    @ApiStatus.Internal
+    public void leaveGroup(@NotNull VelocityBroadcastGroup group) {
+        runBatched(() -> {
+            groups.remove(group);
+            teamOverrides.keySet().removeIf(team -> team.getScoreboard() == group);
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            for (VelocityObjective objective : group.getObjectivesRaw()) {
+                if (!objective.isMaterialized()) continue;
+                sendPacket(new ObjectivePacket(ObjectiveAction.UNREGISTER, objective.getName(), objective.getTitle(), HealthDisplay.INTEGER, null));
             }
+            for (VelocityTeam team : group.getTeamsRaw()) {
+                if (!team.isMaterialized()) continue;
+                sendPacket(TeamPacket.unregister(team.getName()), team);
+            }
+        });
+    }
+
+    /**
+     * Returns broadcast groups this viewer is member of.
+     *
+     * @return  Broadcast groups this viewer is member of
+     */
+    @NotNull
+    public Collection<VelocityBroadcastGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Overrides properties of a broadcast group team for this viewer only. Properties not set
+     * in the override keep following the team. The team itself is not copied, effective
+     * properties are only computed when a packet of the team is sent to this viewer.
+     *
+     * @param   team
+     *          Team of a group this viewer is in
+     * @param   override
+     *          Properties to override, must not be modified afterwards
+     */
+    @ApiStatus.Internal
+    public void setTeamOverride(@NotNull VelocityTeam team, @NotNull VelocityTeam.PropertyBuilder override) {
+        runBatched(() -> {
+            teamOverrides.put(team, override);
+            if (team.isMaterialized()) sendPacket(new TeamPacket(TeamPacket.TeamAction.UPDATE, team.getName(), team.getProperties(), null), team);
+        });
+    }
+
+    /**
+     * Removes override of team properties for this viewer, sending the properties of the team.
+     *
+     * @param   team
+     *          Team to remove override of
+     */
+    @ApiStatus.Internal
+    public void removeTeamOverride(@NotNull VelocityTeam team) {
+        runBatched(() -> {
+            if (teamOverrides.remove(team) == null) return;
+            if (team.isMaterialized()) sendPacket(new TeamPacket(TeamPacket.TeamAction.UPDATE, team.getName(), team.getProperties(), null), team);
+        });
+    }
+
+    /**
+     * Returns properties of given team as seen by this viewer.
+     *
+     * @param   team
+     *          Team to get properties of
+     * @return  Team properties with overrides of this viewer applied
+     */
+    @NotNull
+    private TeamProperties getEffectiveProperties(@NotNull VelocityTeam team) {
+        VelocityTeam.PropertyBuilder override = teamOverrides.get(team);
+        return override == null ? team.getProperties() : override.applyTo(team.getProperties());
+    }
+
+    /**
+     * Replaces properties in given packet with the ones seen by this viewer if they are overridden.
+     *
+     * @param   packet
+     *          Register or update packet of the team
+     * @param   team
+     *          Team the packet belongs to
+     * @return  Packet with properties seen by this viewer
+     */
+    @NotNull
+    private TeamPacket withOverride(@NotNull TeamPacket packet, @NotNull VelocityTeam team) {
+        if (!teamOverrides.containsKey(team)) return packet;
+        return new TeamPacket(packet.getAction(), packet.getName(), getEffectiveProperties(team), packet.getEntries());
+    }
+
+    /**
+     * Returns objective with given name displayed to the viewer, either from this
+     * scoreboard or from one of the broadcast groups the viewer is in. Objectives which
+     * were not sent to the client yet are skipped, so backend can still use the name.
+     *
+     * @param   name
+     *          Objective name
+     * @return  Visible objective with given name or {@code null} if not present
+     */
+    @Nullable
+    public VelocityObjective getVisibleObjective(@NotNull String name) {
+        VelocityObjective objective = objectives.get(name);
+        if (objective != null && objective.isMaterialized()) return objective;
+        for (VelocityBroadcastGroup group : groups) {
+            objective = group.getObjective(name);
+            if (objective != null && objective.isMaterialized()) return objective;
         }
-        processQueue();
+        return null;
+    }
+
+    /**
+     * Returns objective displayed to the viewer in given slot, either from this
+     * scoreboard or from one of the broadcast groups the viewer is in.
+     *
+     * @param   displaySlot
+     *          Display slot
+     * @return  Visible objective in given slot or {@code null} if not present
+     */
+    @Nullable
+    public VelocityObjective getVisibleObjective(@NotNull DisplaySlot displaySlot) {
+        VelocityObjective objective = displaySlots.get(displaySlot);
+        if (objective != null) return objective;
+        for (VelocityBroadcastGroup group : groups) {
+            objective = group.getObjective(displaySlot);
+            if (objective != null) return objective;
+        }
+        return null;
+    }
+
+    /**
+     * Returns team with given name displayed to the viewer, either from this
+     * scoreboard or from one of the broadcast groups the viewer is in. Teams which
+     * were not sent to the client yet are skipped, so backend can still use the name.
+     *
+     * @param   teamName
+     *          Team name
+     * @return  Visible team with given name or {@code null} if not present
+     */
+    @Nullable
+    public VelocityTeam getVisibleTeam(@NotNull String teamName) {
+        VelocityTeam team = teams.get(teamName);
+        if (team != null && team.isMaterialized()) return team;
+        for (VelocityBroadcastGroup group : groups) {
+            team = group.getTeam(teamName);
+            if (team != null && team.isMaterialized()) return team;
+        }
+        return null;
+    }
+
+    /**
+     * Returns team containing given entry displayed to the viewer, either from this
+     * scoreboard or from one of the broadcast groups the viewer is in.
+     *
+     * @param   entry
+     *          Entry to find team of
+     * @return  Visible team containing given entry or {@code null} if not present
+     */
+    @Nullable
+    public VelocityTeam getVisibleTeamByEntry(@NotNull String entry) {
+        VelocityTeam team = teamEntries.get(entry);
+        if (team != null) return team;
+        for (VelocityBroadcastGroup group : groups) {
+            team = group.getTeamByEntry(entry);
+            if (team != null) return team;
+        }
+        return null;
+    }
+
+    /**
+     * Sends scores of given holder in all visible objectives again. Used when backend
+     * resets the holder in all objectives, which also removes scores set by proxy.
+     *
+     * @param   holder
+     *          Score holder
+     */
+    public void restoreScores(@NotNull String holder) {
+        runBatched(() -> {
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            for (VelocityObjective objective : holderIndex.get(holder)) {
+                if (!objective.isMaterialized()) continue;
+                MinecraftPacket packet = objective.createScorePacket(holder, viewer.getProtocolVersion());
+                if (packet != null) queuePacket(packet);
+            }
+            for (VelocityBroadcastGroup group : groups) {
+                for (VelocityObjective objective : group.getHolderIndex().get(holder)) {
+                    if (!objective.isMaterialized()) continue;
+                    MinecraftPacket packet = objective.createScorePacket(holder, viewer.getProtocolVersion());
+                    if (packet != null) queuePacket(packet);
+                }
+            }
+        });
     }
 
     @Override
@@ -260,161 +805,475 @@ public class VelocityScoreboard implements ProxyScoreboard {
         return eventSource;
     }
 
-    public synchronized void sendPacket(@NotNull DisplayObjectivePacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        queuePacket(packet);
+    /**
+     * Fires an event for the viewer of this scoreboard.
+     *
+     * @param   event
+     *          Function creating the event for given viewer
+     */
+    public void fireEvent(@NotNull Function<Player, Object> event) {
+        eventSource.fireEvent(event.apply(viewer));
+    }
+
+    public void sendPacket(@NotNull DisplayObjectivePacket packet) {
+        runBatched(() -> {
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            queuePacket(packet);
+            restoreFreedSlots();
+        });
+    }
 
-        // Check if a slot was freed
-        for (DisplaySlot slot : DisplaySlot.values()) {
-            if (!displaySlots.containsKey(slot)) {
-                // Slot is free, check if backend wants to display something
-                DownstreamObjective objective = downstream.getObjective(packet.getPosition());
-                if (objective != null) {
-                    // Backend tried to display something in this slot, allow it now
-                    queuePacket(new DisplayObjectivePacket(slot, objective.getName()));
+    /**
+     * Checks if a slot was freed and displays backend objective in it if backend wants to.
+     */
+    public void restoreFreedSlots() {
+        runInEventLoop(() -> {
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            for (DisplaySlot slot : DisplaySlot.values()) {
+                if (getVisibleObjective(slot) == null) {
+                    // Slot is free, check if backend wants to display something
+                    DownstreamObjective objective = downstream.getObjective(slot);
+                    if (objective != null) {
+                        // Backend tried to display something in this slot, allow it now
+                        queuePacket(new DisplayObjectivePacket(slot, objective.getName()));
+                    }
                 }
             }
-        }
+        });
     }
 
-    public synchronized void sendPacket(@NotNull ObjectivePacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        switch (packet.getAction()) {
-            case REGISTER -> {
-                DownstreamObjective objective = downstream.getObjective(packet.getObjectiveName());
-                if (objective != null) {
-                    // Backend is using this scoreboard, unregister it to allow this
-                    queuePacket(new ObjectivePacket(ObjectiveAction.UNREGISTER, packet.getObjectiveName(), null, null, null));
+    public void sendPacket(@NotNull ObjectivePacket packet) {
+        runBatched(() -> {
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            switch (packet.getAction()) {
+                case REGISTER -> {
+                    DownstreamObjective objective = downstream.getObjective(packet.getObjectiveName());
+                    if (objective != null) {
+                        // Backend is using this scoreboard, unregister it to allow this
+                        queuePacket(new ObjectivePacket(ObjectiveAction.UNREGISTER, packet.getObjectiveName(), null, null, null));
+                    }
+                    queuePacket(packet);
                 }
-                queuePacket(packet);
-            }
-            case UNREGISTER -> {
-                queuePacket(packet);
-
-                // Check if backend wanted to display an objective with this name
-                DownstreamObjective objective = downstream.getObjective(packet.getObjectiveName());
-                if (objective != null) {
-                    // Backend wants this too, send the objective and scores
-                    queuePacket(new ObjectivePacket(ObjectiveAction.REGISTER, objective.getName(), objective.getTitle(), objective.getHealthDisplay(), objective.getNumberFormat()));
-                    for (DownstreamScore score : objective.getAllScores()) {
-                        if (viewer.getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-                            queuePacket(new ScoreSetPacket(score.getHolder(), objective.getName(), score.getScore(), score.getDisplayNameHolder(), score.getNumberFormat()));
-                        } else {
-                            queuePacket(new ScorePacket(ScorePacket.ScoreAction.SET, score.getHolder(), objective.getName(), score.getScore()));
+                case UNREGISTER -> {
+                    queuePacket(packet);
+
+                    // Check if backend wanted to display an objective with this name
+                    DownstreamObjective objective = downstream.getObjective(packet.getObjectiveName());
+                    if (objective != null) {
+                        // Backend wants this too, send the objective and scores
+                        queuePacket(new ObjectivePacket(ObjectiveAction.REGISTER, objective.getName(), objective.getTitle(), objective.getHealthDisplay(), objective.getNumberFormatRaw()));
+                        for (DownstreamScore score : objective.getAllScores()) {
+                            if (viewer.getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+                                queuePacket(new ScoreSetPacket(score.getHolder(), objective.getName(), score.getScore(), score.getDisplayNameHolder(), score.getNumberFormatRaw()));
+                            } else {
+                                queuePacket(new ScorePacket(ScorePacket.ScoreAction.SET, score.getHolder(), objective.getName(), score.getScore()));
+                            }
                         }
                     }
-                }
 
-                // Check if backend wanted to display an objective in this slot
-                for (DisplaySlot slot : DisplaySlot.values()) {
-                    if (displaySlots.containsKey(slot)) continue; // This slot is occupied by proxy
-                    DownstreamObjective obj = downstream.getObjective(slot);
-                    if (obj != null) {
-                        // This slot is only used by backend, display it (may send unnecessary packets)
-                        queuePacket(new DisplayObjectivePacket(slot, obj.getName()));
+                    // Check if backend wanted to display an objective in this slot
+                    for (DisplaySlot slot : DisplaySlot.values()) {
+                        if (getVisibleObjective(slot) != null) continue; // This slot is occupied by proxy
+                        DownstreamObjective obj = downstream.getObjective(slot);
+                        if (obj != null) {
+                            // This slot is only used by backend, display it (may send unnecessary packets)
+                            queuePacket(new DisplayObjectivePacket(slot, obj.getName()));
+                        }
                     }
                 }
+                case UPDATE -> {
+                    // Nothing should be needed here
+                    queuePacket(packet);
+                }
             }
-            case UPDATE -> {
-                // Nothing should be needed here
-                queuePacket(packet);
-            }
+        });
+    }
+
+    /**
+     * Sends new value of given score. The value is read on the calling thread. When already
+     * on the event loop, the packet is created and queued right away without any other
+     * allocation, otherwise a single task carrying the value is submitted.
+     *
+     * @param   score
+     *          Changed score
+     */
+    public void sendScoreUpdate(@NotNull VelocityScore score) {
+        int value = score.getScore();
+        if (eventLoop.inEventLoop()) {
+            sendScoreUpdate0(score, value);
+        } else {
+            eventLoop.execute(() -> sendScoreUpdate0(score, value));
         }
     }
 
-    public synchronized void sendPacket(@NotNull ScorePacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        queuePacket(packet);
+    private void sendScoreUpdate0(@NotNull VelocityScore score, int value) {
+        ProtocolVersion version = viewer.getProtocolVersion();
+        if (version.greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+        queuePacket(score.createUpdatePacket(version, value));
     }
 
-    public synchronized void sendPacket(@NotNull ScoreSetPacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        queuePacket(packet);
+    public void sendScoreRemove(@NotNull VelocityScore score) {
+        sendScorePacket(score::createRemovePacket);
     }
 
-    public synchronized void sendPacket(@NotNull ScoreResetPacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        queuePacket(packet);
+    /**
+     * Sends score packet created for protocol version of the viewer.
+     *
+     * @param   packetFunction
+     *          Function creating packet for given protocol version
+     */
+    public void sendScorePacket(@NotNull Function<ProtocolVersion, MinecraftPacket> packetFunction) {
+        runInEventLoop(() -> {
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            queuePacket(packetFunction.apply(viewer.getProtocolVersion()));
+        });
     }
 
-    public synchronized void sendPacket(@NotNull TeamPacket packet, @NotNull VelocityTeam affectedTeam) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        switch (packet.getAction()) {
-            case REGISTER -> {
-                DownstreamTeam team = downstream.getTeam(packet.getName());
-                if (team != null) {
-                    // Backend is using this team, unregister it to allow this
-                    queuePacket(TeamPacket.unregister(packet.getName()));
+    public void sendPacket(@NotNull TeamPacket packet, @NotNull VelocityTeam affectedTeam) {
+        runBatched(() -> {
+            if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+            switch (packet.getAction()) {
+                case REGISTER -> {
+                    DownstreamTeam team = downstream.getTeam(packet.getName());
+                    if (team != null) {
+                        // Backend is using this team, unregister it to allow this
+                        queuePacket(TeamPacket.unregister(packet.getName()));
+                    }
+                    queuePacket(withOverride(packet, affectedTeam));
                 }
-                queuePacket(packet);
-            }
-            case UNREGISTER -> {
-                queuePacket(packet);
-                // Check if backend wanted to display a team with this name
-                DownstreamTeam team = downstream.getTeam(packet.getName());
-                if (team != null) {
-                    // Backend wants this too, send it
-                    queuePacket(new TeamPacket(TeamPacket.TeamAction.REGISTER, team.getName(), team.getProperties(), team.getEntryCollection()));
+                case UNREGISTER -> {
+                    teamOverrides.remove(affectedTeam);
+                    queuePacket(packet);
+                    // Check if backend wanted to display a team with this name
+                    DownstreamTeam team = downstream.getTeam(packet.getName());
+                    if (team != null) {
+                        // Backend wants this too, send it
+                        queuePacket(new TeamPacket(TeamPacket.TeamAction.REGISTER, team.getName(), team.getProperties(), team.getEntryCollection()));
+                    }
+
+                    // Check if removed players belonged to backend teams
+                    restoreBackendEntries(affectedTeam.getEntryCollection());
+                }
+                case UPDATE -> queuePacket(withOverride(packet, affectedTeam));
+                case ADD_PLAYER -> {
+                    // Nothing should be needed here
+                    queuePacket(packet);
                 }
+                case REMOVE_PLAYER -> {
+                    queuePacket(packet);
 
-                // Check if removed players belonged to backend teams
-                for (DownstreamTeam dTeam : downstream.getDownstreamTeams()) {
-                    StringCollection teamEntries = dTeam.getEntryCollection();
-                    if (affectedTeam.getEntryCollection().getEntry() != null) {
-                        if (teamEntries.contains(affectedTeam.getEntryCollection().getEntry())) {
-                            // Backend team has this player, add back
-                            queuePacket(TeamPacket.addOrRemovePlayer(dTeam.getName(), affectedTeam.getEntryCollection().getEntry(), true));
-                        }
-                    } else {
-                        for (String removedEntry : affectedTeam.getEntryCollection().getEntries()) {
-                            if (teamEntries.contains(removedEntry)) {
-                                // Backend team has this player, add back
-                                queuePacket(TeamPacket.addOrRemovePlayer(dTeam.getName(), removedEntry, true));
-                            }
-                        }
-                    }
+                    // Check if backend wanted to display this player
+                    restoreBackendEntries(packet.getEntries());
                 }
             }
-            case UPDATE, ADD_PLAYER -> {
-                // Nothing should be needed here
-                queuePacket(packet);
-            }
-            case REMOVE_PLAYER -> {
-                queuePacket(packet);
-
-                // Check if backend wanted to display this player
-                for (DownstreamTeam team : downstream.getDownstreamTeams()) {
-                    StringCollection teamEntries = team.getEntryCollection();
-                    for (String removedEntry : affectedTeam.getEntryCollection().getEntries()) {
-                        if (teamEntries.contains(removedEntry)) {
-                            // Backend team has this player, add back
-                            queuePacket(TeamPacket.addOrRemovePlayer(team.getName(), removedEntry, true));
-                        }
-                    }
-                }
+        });
+    }
+
+    /**
+     * Adds entries back to backend teams they belong to after they were removed from a proxy team.
+     *
+     * @param   removedEntries
+     *          Entries removed from proxy team
+     */
+    private void restoreBackendEntries(@NotNull StringCollection removedEntries) {
+        if (removedEntries.getEntry() != null) {
+            restoreBackendEntry(removedEntries.getEntry());
+        } else {
+            for (String removedEntry : removedEntries.getEntries()) {
+                restoreBackendEntry(removedEntry);
             }
         }
     }
 
+    private void restoreBackendEntry(@NotNull String removedEntry) {
+        DownstreamTeam team = downstream.getTeamByEntry(removedEntry);
+        if (team != null) {
+            // Backend team has this player, add back
+            queuePacket(TeamPacket.addOrRemovePlayer(team.getName(), removedEntry, true));
+        }
+    }
+
     /**
      * Marks the scoreboard for freeze. While frozen, no packets will be sent.
+     * Packets waiting for a flush are discarded, because the client has just
+     * received JoinGame packet and the entire scoreboard will be resent. A resend still
+     * in progress from a previous server switch is cancelled for the same reason.
+     * If the scoreboard is still frozen after the configured timeout, it is resent.
      */
     public void freeze() {
-        frozen = true;
+        runInEventLoop(() -> {
+            frozen = true;
+            pendingPackets.clear();
+            downstreamPackets.clear();
+            cancelResend0();
+            if (freezeTimeout <= 0) return;
+            int generation = ++freezeCount;
+            eventLoop.schedule(() -> {
+                if (!frozen || freezeCount != generation || resendQueue != null) return;
+                LoggerManager.log(Level.WARN, "Scoreboard of player " + viewer.getUsername() + " was not resent within " +
+                        freezeTimeout + "ms after server switch, resending it now");
+                resend();
+            }, freezeTimeout, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    @Override
+    public void flush() {
+        runInEventLoop(() -> {
+            flushScheduled = false;
+            flushProxyPackets0();
+            downstreamPackets.drain(viewer.getConnection(), false);
+            // Proxy packets stay pending while frozen or in a batch, flush them on the next tick
+            if (!pendingPackets.isEmpty()) scheduleFlush();
+        });
+    }
+
+    /**
+     * Flushes scoreboards which have coalesced packets waiting since the last call. Scoreboards
+     * without any pending packets are skipped, so the cost of a tick does not grow with the
+     * amount of idle players.
+     */
+    public static void flushPending() {
+        for (int i = pendingFlush.size(); i > 0; i--) {
+            VelocityScoreboard scoreboard = pendingFlush.poll();
+            if (scoreboard == null) return;
+            scoreboard.flush();
+        }
+    }
+
+    /**
+     * Adds this scoreboard to scoreboards flushed at the end of tick if it is not there already.
+     */
+    private void scheduleFlush() {
+        if (flushScheduled) return;
+        flushScheduled = true;
+        pendingFlush.add(this);
+    }
+
+    /**
+     * Flushes coalesced proxy packets, but not backend packets held back until the end of tick.
+     * Called before a backend packet is forwarded to keep the order.
+     */
+    @ApiStatus.Internal
+    public void flushProxyPackets() {
+        runInEventLoop(this::flushProxyPackets0);
+    }
+
+    private void flushProxyPackets0() {
+        if (frozen || batchDepth > 0) return;
+        pendingPackets.drain(viewer.getConnection(), shouldBundle());
+    }
+
+    /**
+     * Holds back a value update coming from backend until the end of tick, replacing a previous
+     * update of the same value. Packets which change structure of the scoreboard are not accepted,
+     * they must be forwarded after {@link #writeDownstreamPackets()} is called.
+     *
+     * @param   packet
+     *          Packet coming from backend, which passed all filters
+     * @return  {@code true} if packet was queued and should be cancelled, {@code false} if it should be forwarded
+     */
+    @ApiStatus.Internal
+    public boolean queueDownstreamPacket(@NotNull MinecraftPacket packet) {
+        checkEventLoop();
+        if (frozen || !CoalescingPacketQueue.isReplaceable(packet)) return false;
+        downstreamPackets.add(packet);
+        scheduleFlush();
+        return true;
+    }
+
+    /**
+     * Writes backend packets held back until the end of tick without flushing, so a backend
+     * packet forwarded after this call arrives in the correct order.
+     */
+    @ApiStatus.Internal
+    public void writeDownstreamPackets() {
+        checkEventLoop();
+        downstreamPackets.writeTo(viewer.getConnection(), false);
+    }
+
+    @Override
+    public void batch(@NotNull Consumer<ProxyScoreboard> changes) {
+        beginBatch();
+        try {
+            changes.accept(this);
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Starts collecting packets instead of writing them. Batches may be nested,
+     * packets are only written once the outermost batch ends.
+     */
+    @ApiStatus.Internal
+    public void beginBatch() {
+        runInEventLoop(() -> batchDepth++);
+    }
+
+    /**
+     * Ends a batch. If it was the outermost one, all collected packets are written
+     * with a single flush.
+     */
+    @ApiStatus.Internal
+    public void endBatch() {
+        runInEventLoop(this::finishBatch);
+    }
+
+    private void finishBatch() {
+        if (--batchDepth > 0 || frozen) return;
+        pendingPackets.drain(viewer.getConnection(), shouldBundle());
+    }
+
+    /**
+     * Runs the task in event loop of the viewer as a batch if packets are bundled, so packets
+     * of a change consisting of multiple packets (such as replacing a backend objective)
+     * reach the client in a single bundle.
+     *
+     * @param   task
+     *          Task to run
+     */
+    private void runBatched(@NotNull Runnable task) {
+        runInEventLoop(() -> {
+            if (!bundlePackets || viewer.getProtocolVersion().lessThan(ProtocolVersion.MINECRAFT_1_19_4)) {
+                task.run();
+                return;
+            }
+            batchDepth++;
+            try {
+                task.run();
+            } finally {
+                finishBatch();
+            }
+        });
+    }
+
+    /**
+     * Returns {@code true} if packets written together should be wrapped in bundle delimiters.
+     * Packets are not bundled while backend has a bundle open, because the delimiters would
+     * close it. They are part of the backend bundle in that case.
+     *
+     * @return  {@code true} if packets should be bundled, {@code false} if not
+     */
+    private boolean shouldBundle() {
+        return bundlePackets && viewer.getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_19_4)
+                && !viewer.getBundleHandler().isInBundleSession();
+    }
+
+    /**
+     * Writes a packet encoded by a broadcast group this viewer is member of. Packets waiting
+     * for a flush are written first to keep the order. If the scoreboard is frozen before a resend
+     * started, the packet is dropped, because the group will be sent again with the rest of the
+     * scoreboard. Once a resend is in progress, its content is already collected, so the packet
+     * is held back with other packets and written after the resend.
+     *
+     * @param   encoded
+     *          Encoded packet, released by this method if not written
+     * @param   packet
+     *          The packet that was encoded, held back instead of the buffer during a resend
+     */
+    @ApiStatus.Internal
+    public void writeEncoded(@NotNull ByteBuf encoded, @NotNull MinecraftPacket packet) {
+        writeEncoded(encoded, packet, null);
+    }
+
+    /**
+     * Writes a packet encoded by a broadcast group this viewer is member of, see
+     * {@link #writeEncoded(ByteBuf, MinecraftPacket)}. If the packet updates a team this viewer
+     * has properties of overridden, the buffer is released and the packet is sent with the
+     * overridden properties instead. Overrides are checked in the event loop, so a viewer never
+     * receives the shared packet of a team after its override was set.
+     *
+     * @param   encoded
+     *          Encoded packet, released by this method if not written
+     * @param   packet
+     *          The packet that was encoded
+     * @param   updatedTeam
+     *          Team updated by the packet, {@code null} if the packet is not a team update
+     */
+    @ApiStatus.Internal
+    public void writeEncoded(@NotNull ByteBuf encoded, @NotNull MinecraftPacket packet, @Nullable VelocityTeam updatedTeam) {
+        try {
+            runInEventLoop(() -> {
+                if (updatedTeam != null && teamOverrides.containsKey(updatedTeam)) {
+                    encoded.release();
+                    sendPacket((TeamPacket) packet, updatedTeam);
+                    return;
+                }
+                if (frozen && resendQueue != null) {
+                    encoded.release();
+                    queuePacket(packet);
+                    return;
+                }
+                if (frozen || viewer.getConnection().getState() != StateRegistry.PLAY) {
+                    encoded.release();
+                    return;
+                }
+                downstreamPackets.writeTo(viewer.getConnection(), false);
+                if (batchDepth > 0) {
+                    pendingPackets.writeTo(viewer.getConnection(), false);
+                    viewer.getConnection().delayedWrite(encoded);
+                    return;
+                }
+                pendingPackets.drain(viewer.getConnection(), shouldBundle());
+                viewer.getConnection().write(encoded);
+            });
+        } catch (RejectedExecutionException e) {
+            encoded.release();
+        }
+    }
+
+    /**
+     * Runs the task in event loop of the viewer. If already called from the event loop, the task
+     * is run immediately, otherwise it is submitted to it. All packet sending and state used by it
+     * (freeze queue, pending packets, backend scoreboard) is confined to the event loop this way.
+     *
+     * @param   task
+     *          Task to run
+     */
+    private void runInEventLoop(@NotNull Runnable task) {
+        if (eventLoop.inEventLoop()) {
+            task.run();
+        } else {
+            eventLoop.execute(task);
+        }
+    }
+
+    /**
+     * Verifies that the current thread is the event loop of the viewer if confinement
+     * verification is enabled.
+     */
+    private void checkEventLoop() {
+        if (verifyConfinement && !eventLoop.inEventLoop()) {
+            throw new IllegalStateException("Scoreboard of " + viewer.getUsername() + " was accessed from thread "
+                    + Thread.currentThread().getName() + " outside of its event loop");
+        }
     }
 
     private void queuePacket(@NotNull MinecraftPacket packet) {
+        checkEventLoop();
+        downstreamPackets.writeTo(viewer.getConnection(), false);
         if (frozen) {
-            packetQueue.add(packet);
+            frozenPackets.add(packet);
+            if (frozenPackets.size() > MAXIMUM_FROZEN_PACKETS && resendQueue == null) {
+                LoggerManager.log(Level.WARN, "Scoreboard of player " + viewer.getUsername() + " exceeded " +
+                        MAXIMUM_FROZEN_PACKETS + " held back packets after server switch, resending it now");
+                resend();
+            }
+            return;
+        }
+        if (coalescePackets || batchDepth > 0) {
+            pendingPackets.add(packet);
+            if (coalescePackets) scheduleFlush();
             return;
         }
         viewer.getConnection().write(packet);
     }
 
     private void processQueue() {
-        while (!packetQueue.isEmpty()) {
-            viewer.getConnection().write(packetQueue.poll());
-        }
+        checkEventLoop();
+        frozenPackets.writeTo(viewer.getConnection(), shouldBundle());
+        viewer.getConnection().flush();
         frozen = false;
     }
 }
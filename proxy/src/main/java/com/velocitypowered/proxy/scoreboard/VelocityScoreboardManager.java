@@ -24,14 +24,18 @@ import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.scoreboard.ScoreboardEventSource;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.scoreboard.ProxyObjective;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
 import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
 import com.velocitypowered.proxy.data.RawTextHolderProvider;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import io.netty.util.AttributeKey;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -39,6 +43,9 @@ import java.util.function.Function;
  */
 public class VelocityScoreboardManager extends ScoreboardManager {
 
+    /** Channel attribute holding proxy scoreboard of the player, which also references backend scoreboard */
+    public static final AttributeKey<VelocityScoreboard> SCOREBOARD = AttributeKey.valueOf("velocityscoreboardapi:scoreboard");
+
     private final ProxyServer server;
     private final ScoreboardEventSource plugin;
     private final Map<Player, DownstreamScoreboard> downstreamScoreboards = new ConcurrentHashMap<>();
@@ -56,6 +63,7 @@ public class VelocityScoreboardManager extends ScoreboardManager {
         this.server = server;
         this.plugin = plugin;
         this.registerEvents();
+        this.scheduleFlush();
         new RawTextHolderProvider();
         downstreamFunction = p -> new DownstreamScoreboard(plugin, p);
         proxyFunction = p -> new VelocityScoreboard(plugin, (ConnectedPlayer) p, getBackendScoreboard(p));
@@ -65,10 +73,46 @@ public class VelocityScoreboardManager extends ScoreboardManager {
      * Registers the event listeners for connecting and disconnecting players.
      */
     private void registerEvents() {
-        server.getEventManager().register(plugin, DisconnectEvent.class, event -> {
-            downstreamScoreboards.remove(event.getPlayer());
-            proxyScoreboards.remove(event.getPlayer());
-        });
+        server.getEventManager().register(plugin, DisconnectEvent.class, event -> release(event.getPlayer()));
+    }
+
+    /**
+     * Binds scoreboards of the player to their channel, so packet handling does not
+     * need to look them up.
+     *
+     * @param   player
+     *          Player who joined
+     */
+    public void bind(@NotNull Player player) {
+        ((ConnectedPlayer) player).getConnection().getChannel().attr(SCOREBOARD).set(getProxyScoreboard(player));
+    }
+
+    /**
+     * Releases scoreboards of a player who disconnected. Called both on disconnect event
+     * and when the channel becomes inactive, in case the event was never fired.
+     *
+     * @param   player
+     *          Player who disconnected
+     */
+    public void release(@NotNull Player player) {
+        ((ConnectedPlayer) player).getConnection().getChannel().attr(SCOREBOARD).set(null);
+        downstreamScoreboards.remove(player);
+        VelocityScoreboard scoreboard = proxyScoreboards.remove(player);
+        if (scoreboard != null) {
+            for (VelocityBroadcastGroup group : scoreboard.getGroups()) {
+                group.removeDisconnectedViewer(player);
+            }
+        }
+    }
+
+    /**
+     * Schedules a repeating task flushing coalesced packets once per tick if packet coalescing
+     * is enabled for proxy packets or any backend server. Only scoreboards which received
+     * coalesced packets since the last tick are flushed.
+     */
+    private void scheduleFlush() {
+        if (!VelocityScoreboard.isFlushNeeded()) return;
+        server.getScheduler().buildTask(plugin, VelocityScoreboard::flushPending).repeat(50, TimeUnit.MILLISECONDS).schedule();
     }
 
     @Override
@@ -82,4 +126,18 @@ public class VelocityScoreboardManager extends ScoreboardManager {
         return downstreamScoreboards.computeIfAbsent(player, downstreamFunction);
     }
 
+    @Override
+    @NotNull
+    public VelocityBroadcastGroup createBroadcastGroup() {
+        return new VelocityBroadcastGroup(plugin, this);
+    }
+
+    @Override
+    @NotNull
+    public VelocitySharedObjective createSharedObjective(@NotNull String name, @NotNull Consumer<ProxyObjective.Builder> consumer) {
+        VelocityObjective.Builder builder = new VelocityObjective.Builder(name);
+        consumer.accept(builder);
+        return new VelocitySharedObjective(createBroadcastGroup(), builder);
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.scoreboard.SharedObjective;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Implementation of shared objective. Viewers are managed by a broadcast group containing
+ * only this objective, so registering, conflict resolution with backend scoreboard and
+ * resending on server switch work the same way as for any other group objective.
+ */
+public class VelocitySharedObjective implements SharedObjective {
+
+    /** Group viewers of this objective are in */
+    @NotNull
+    private final VelocityBroadcastGroup group;
+
+    /** Objective with values registered into the group */
+    @NotNull
+    private final VelocityTableObjective objective;
+
+    public VelocitySharedObjective(@NotNull VelocityBroadcastGroup group, @NotNull VelocityObjective.Builder builder) {
+        this.group = group;
+        this.objective = (VelocityTableObjective) group.registerObjective(builder.table());
+    }
+
+    @Override
+    @NotNull
+    public String getName() {
+        return objective.getName();
+    }
+
+    @Override
+    public void setScore(@NotNull String holder, int value) {
+        objective.setValue(holder, value);
+    }
+
+    @Override
+    public int getScoreValue(@NotNull String holder) {
+        return objective.getValue(holder);
+    }
+
+    @Override
+    public boolean hasScore(@NotNull String holder) {
+        return objective.hasValue(holder);
+    }
+
+    @Override
+    public void removeScore(@NotNull String holder) {
+        objective.removeValue(holder);
+    }
+
+    @Override
+    public int getScoreCount() {
+        return objective.getValueCount();
+    }
+
+    @Override
+    public void addViewer(@NotNull Player player) {
+        group.addViewer(player);
+    }
+
+    @Override
+    public void removeViewer(@NotNull Player player) {
+        group.removeViewer(player);
+    }
+
+    @Override
+    @NotNull
+    public Collection<Player> getViewers() {
+        return group.getViewers();
+    }
+}
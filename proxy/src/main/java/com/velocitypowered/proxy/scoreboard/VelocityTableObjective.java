@@ -0,0 +1,293 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.scoreboard.*;
+import com.velocitypowered.proxy.data.ScoreTable;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ScorePacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreResetPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreSetPacket;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Objective backing a {@link SharedObjective}. Scores are plain values in a {@link ScoreTable}
+ * instead of score objects, since every holder only has a value without display name or number
+ * format. Packets are created directly from the table, so a value change is encoded once per
+ * protocol version by the broadcast group and written to all viewers.
+ * <p>
+ * Scores returned by {@link ProxyObjective} methods are views created from the table on request.
+ * They hold the value at the time they were created, setting their value writes it into the
+ * table, display name and number format are not supported. All access to the table is
+ * synchronized on the scoreboard owning this objective, so readers never see a partial update
+ * and packets of a holder are sent in the same order as its value changed.
+ */
+public class VelocityTableObjective extends VelocityObjective {
+
+    /** Score values by holder */
+    private final ScoreTable table = new ScoreTable();
+
+    protected VelocityTableObjective(@NotNull VelocityScoreboard scoreboard, @NotNull String name, @NotNull TextHolder title,
+                                     @NotNull HealthDisplay healthDisplay, @Nullable NumberFormat numberFormat, @Nullable DisplaySlot displaySlot) {
+        super(scoreboard, name, title, healthDisplay, numberFormat, displaySlot);
+    }
+
+    /**
+     * Sets value of given holder and sends it to viewers if it changed.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   value
+     *          New value
+     */
+    public void setValue(@NotNull String holder, int value) {
+        checkState();
+        synchronized (getScoreboard()) {
+            boolean added = !table.contains(holder);
+            if (!table.put(holder, value)) return;
+            if (added) getScoreboard().getHolderIndex().add(holder, this);
+            if (isMaterialized()) getScoreboard().sendScorePacket(version -> createUpdatePacket(holder, value, version));
+        }
+    }
+
+    /**
+     * Returns value of given holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  Value of the holder
+     * @throws  IllegalArgumentException
+     *          If the holder has no value
+     */
+    public int getValue(@NotNull String holder) {
+        checkState();
+        synchronized (getScoreboard()) {
+            if (!table.contains(holder)) throw new IllegalArgumentException("Score \"" + holder + "\" is not in this objective (" + getName() + ")");
+            return table.get(holder);
+        }
+    }
+
+    /**
+     * Returns whether given holder has a value.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  {@code true} if the holder has a value, {@code false} if not
+     */
+    public boolean hasValue(@NotNull String holder) {
+        synchronized (getScoreboard()) {
+            return table.contains(holder);
+        }
+    }
+
+    /**
+     * Returns amount of holders with a value.
+     *
+     * @return  Amount of holders
+     */
+    public int getValueCount() {
+        synchronized (getScoreboard()) {
+            return table.size();
+        }
+    }
+
+    /**
+     * Removes value of given holder and resets it for viewers.
+     *
+     * @param   holder
+     *          Score holder
+     * @throws  IllegalArgumentException
+     *          If the holder has no value
+     */
+    public void removeValue(@NotNull String holder) {
+        checkState();
+        synchronized (getScoreboard()) {
+            if (!table.remove(holder)) throw new IllegalArgumentException("Score \"" + holder + "\" is not in this objective (" + getName() + ")");
+            getScoreboard().getHolderIndex().remove(holder, this);
+            if (isMaterialized()) getScoreboard().sendScorePacket(version -> createRemovePacket(holder, version));
+        }
+    }
+
+    @Override
+    @NotNull
+    public Collection<String> getHolders() {
+        synchronized (getScoreboard()) {
+            return table.getHolders();
+        }
+    }
+
+    @Override
+    public void forEachScorePacket(@NotNull ProtocolVersion version, @NotNull Consumer<MinecraftPacket> action) {
+        synchronized (getScoreboard()) {
+            table.forEach((holder, value) -> action.accept(createUpdatePacket(holder, value, version)));
+        }
+    }
+
+    @Override
+    @Nullable
+    public MinecraftPacket createScorePacket(@NotNull String holder, @NotNull ProtocolVersion version) {
+        synchronized (getScoreboard()) {
+            if (!table.contains(holder)) return null;
+            return createUpdatePacket(holder, table.get(holder), version);
+        }
+    }
+
+    @Override
+    protected void sendScores() {
+        synchronized (getScoreboard()) {
+            table.forEach((holder, value) -> getScoreboard().sendScorePacket(version -> createUpdatePacket(holder, value, version)));
+        }
+    }
+
+    @Override
+    @NotNull
+    public ProxyScore setScore(@NotNull String holder, @NotNull Consumer<ProxyScore.Builder> consumer) {
+        VelocityScore.Builder builder = new VelocityScore.Builder(holder);
+        consumer.accept(builder);
+        VelocityScore score = builder.build(this);
+        if (score.getDisplayName() != null || score.getNumberFormat() != null) {
+            throw new IllegalArgumentException("Scores of shared objective " + getName() + " only have values, display name and number format are not supported");
+        }
+        return setScore(holder, score.getScore());
+    }
+
+    @Override
+    @NotNull
+    public ProxyScore setScore(@NotNull String holder, int value) {
+        setValue(holder, value);
+        return new TableScore(holder, value);
+    }
+
+    @Override
+    public int getScoreValue(@NotNull String holder) {
+        return getValue(holder);
+    }
+
+    @Override
+    @Nullable
+    public ProxyScore getScore(@NotNull String holder) {
+        synchronized (getScoreboard()) {
+            if (!table.contains(holder)) return null;
+            return new TableScore(holder, table.get(holder));
+        }
+    }
+
+    @Override
+    @NotNull
+    public Collection<ProxyScore> getAllScores() {
+        synchronized (getScoreboard()) {
+            List<ProxyScore> scores = new ArrayList<>(table.size());
+            table.forEach((holder, value) -> scores.add(new TableScore(holder, value)));
+            return scores;
+        }
+    }
+
+    @Override
+    public void removeScore(@NotNull String holder) {
+        removeValue(holder);
+    }
+
+    @NotNull
+    private MinecraftPacket createUpdatePacket(@NotNull String holder, int value, @NotNull ProtocolVersion version) {
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+            return new ScoreSetPacket(holder, getName(), value, null, null);
+        } else {
+            return new ScorePacket(ScorePacket.ScoreAction.SET, holder, getName(), value);
+        }
+    }
+
+    @NotNull
+    private MinecraftPacket createRemovePacket(@NotNull String holder, @NotNull ProtocolVersion version) {
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+            return new ScoreResetPacket(holder, getName());
+        } else {
+            return new ScorePacket(ScorePacket.ScoreAction.RESET, holder, getName(), 0);
+        }
+    }
+
+    /**
+     * Score of a holder created from the table. Value changes are written into the table,
+     * display name and number format cannot be set.
+     */
+    private class TableScore implements ProxyScore {
+
+        @NotNull private final String holder;
+        private int score;
+
+        private TableScore(@NotNull String holder, int score) {
+            this.holder = holder;
+            this.score = score;
+        }
+
+        @Override
+        @NotNull
+        public String getHolder() {
+            return holder;
+        }
+
+        @Override
+        public int getScore() {
+            return score;
+        }
+
+        @Override
+        @Nullable
+        public Component getDisplayName() {
+            return null;
+        }
+
+        @Override
+        @Nullable
+        public NumberFormat getNumberFormat() {
+            return null;
+        }
+
+        @Override
+        public void setScore(int score) {
+            setValue(holder, score);
+            this.score = score;
+        }
+
+        @Override
+        public void setDisplayName(@Nullable Component displayName) {
+            if (displayName != null) throw unsupported();
+        }
+
+        @Override
+        public void setNumberFormat(@Nullable NumberFormat numberFormat) {
+            if (numberFormat != null) throw unsupported();
+        }
+    }
+
+    @NotNull
+    private IllegalStateException unsupported() {
+        return new IllegalStateException("Scores of shared objective " + getName() + " only have values, display name and number format are not supported");
+    }
+}
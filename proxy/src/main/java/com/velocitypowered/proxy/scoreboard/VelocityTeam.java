@@ -33,8 +33,10 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 
 public class VelocityTeam implements ProxyTeam {
@@ -44,12 +46,19 @@ public class VelocityTeam implements ProxyTeam {
     @NotNull private final TeamProperties properties;
     @NotNull private final StringCollection entries;
     private boolean registered = true;
+    private volatile boolean materialized;
 
     private VelocityTeam(@NotNull VelocityScoreboard scoreboard, @NotNull String name, @NotNull TeamProperties properties, @NotNull StringCollection entries) {
         this.scoreboard = scoreboard;
         this.name = name;
         this.properties = properties;
         this.entries = entries;
+        this.materialized = !VelocityScoreboard.isLazyMaterialization() || entries.size() > 0;
+    }
+
+    @NotNull
+    public VelocityScoreboard getScoreboard() {
+        return scoreboard;
     }
 
     @Override
@@ -184,15 +193,16 @@ public class VelocityTeam implements ProxyTeam {
         checkState();
         PropertyBuilder builder = new PropertyBuilder();
         builderConsumer.accept(builder);
-        if (builder.displayName != null) properties.setDisplayName(builder.displayName);
-        if (builder.prefix != null) properties.setPrefix(builder.prefix);
-        if (builder.suffix != null) properties.setSuffix(builder.suffix);
-        if (builder.nameVisibility != null) properties.setNameVisibility(builder.nameVisibility);
-        if (builder.collisionRule != null) properties.setCollisionRule(builder.collisionRule);
-        if (builder.color != null) properties.setColor(builder.color);
-        if (builder.allowFriendlyFire != null) properties.setAllowFriendlyFire(builder.allowFriendlyFire);
-        if (builder.canSeeFriendlyInvisibles != null) properties.setCanSeeFriendlyInvisibles(builder.canSeeFriendlyInvisibles);
-        sendUpdate();
+        boolean changed = false;
+        if (builder.displayName != null) changed |= properties.setDisplayName(builder.displayName);
+        if (builder.prefix != null) changed |= properties.setPrefix(builder.prefix);
+        if (builder.suffix != null) changed |= properties.setSuffix(builder.suffix);
+        if (builder.nameVisibility != null) changed |= properties.setNameVisibility(builder.nameVisibility);
+        if (builder.collisionRule != null) changed |= properties.setCollisionRule(builder.collisionRule);
+        if (builder.color != null) changed |= properties.setColor(builder.color);
+        if (builder.allowFriendlyFire != null) changed |= properties.setAllowFriendlyFire(builder.allowFriendlyFire);
+        if (builder.canSeeFriendlyInvisibles != null) changed |= properties.setCanSeeFriendlyInvisibles(builder.canSeeFriendlyInvisibles);
+        if (changed) sendUpdate();
     }
 
     @Override
@@ -204,8 +214,13 @@ public class VelocityTeam implements ProxyTeam {
             oldTeam.entries.remove(entry);
         }
         entries.add(entry);
-        scoreboard.sendPacket(TeamPacket.addOrRemovePlayer(name, entry, true), this);
-        scoreboard.getEventSource().fireEvent(new TeamEntryEvent.Add(scoreboard.getViewer(), scoreboard, this, entry));
+        if (materialized) {
+            scoreboard.sendPacket(TeamPacket.addOrRemovePlayer(name, entry, true), this);
+        } else {
+            materialized = true;
+            sendRegister();
+        }
+        scoreboard.fireEvent(viewer -> new TeamEntryEvent.Add(viewer, scoreboard, this, entry));
     }
 
     @Override
@@ -214,12 +229,59 @@ public class VelocityTeam implements ProxyTeam {
         if (entries.remove(entry)) {
             scoreboard.removeEntryFromTeam(entry, this);
             scoreboard.sendPacket(TeamPacket.addOrRemovePlayer(name, entry, false), this);
-            scoreboard.getEventSource().fireEvent(new TeamEntryEvent.Remove(scoreboard.getViewer(), scoreboard, this, entry));
+            scoreboard.fireEvent(viewer -> new TeamEntryEvent.Remove(viewer, scoreboard, this, entry));
         } else {
             throw new IllegalArgumentException("Entry " + entry + " is not in team " + name + ", cannot remove");
         }
     }
 
+    @Override
+    public void addEntries(@NotNull Collection<String> entries) {
+        checkState();
+        List<String> added = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            if (this.entries.contains(entry)) continue;
+            VelocityTeam oldTeam = scoreboard.addEntryToTeam(entry, this);
+            if (oldTeam != null) {
+                oldTeam.entries.remove(entry);
+            }
+            this.entries.add(entry);
+            added.add(entry);
+        }
+        if (added.isEmpty()) return;
+        if (materialized) {
+            scoreboard.sendPacket(TeamPacket.addOrRemovePlayers(name, added, true), this);
+        } else {
+            materialized = true;
+            sendRegister();
+        }
+        for (String entry : added) {
+            scoreboard.fireEvent(viewer -> new TeamEntryEvent.Add(viewer, scoreboard, this, entry));
+        }
+    }
+
+    @Override
+    public void removeEntries(@NotNull Collection<String> entries) throws IllegalArgumentException {
+        checkState();
+        for (String entry : entries) {
+            if (!this.entries.contains(entry)) {
+                throw new IllegalArgumentException("Entry " + entry + " is not in team " + name + ", cannot remove");
+            }
+        }
+        List<String> removed = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            if (this.entries.remove(entry)) {
+                scoreboard.removeEntryFromTeam(entry, this);
+                removed.add(entry);
+            }
+        }
+        if (removed.isEmpty()) return;
+        scoreboard.sendPacket(TeamPacket.addOrRemovePlayers(name, removed, false), this);
+        for (String entry : removed) {
+            scoreboard.fireEvent(viewer -> new TeamEntryEvent.Remove(viewer, scoreboard, this, entry));
+        }
+    }
+
     @ApiStatus.Internal
     public void removeEntrySilent(@NotNull String entry) {
         entries.remove(entry);
@@ -235,11 +297,23 @@ public class VelocityTeam implements ProxyTeam {
         return properties;
     }
 
+    /**
+     * Returns whether this team was sent to viewers. With lazy materialization, teams are only
+     * sent once they have at least one entry, until then they are kept on the proxy.
+     *
+     * @return  {@code true} if this team was sent to viewers, {@code false} if not
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
     public void sendRegister() {
+        if (!materialized) return;
         scoreboard.sendPacket(new TeamPacket(TeamPacket.TeamAction.REGISTER, name, properties, entries), this);
     }
 
     private void sendUpdate() {
+        if (!materialized) return;
         scoreboard.sendPacket(new TeamPacket(TeamPacket.TeamAction.UPDATE, name, properties, null), this);
     }
 
@@ -252,8 +326,8 @@ public class VelocityTeam implements ProxyTeam {
                 scoreboard.removeEntryFromTeam(entry, this);
             }
         }
-        scoreboard.sendPacket(TeamPacket.unregister(name), this);
-        scoreboard.getEventSource().fireEvent(new TeamEvent.Unregister(scoreboard.getViewer(), scoreboard, this));
+        if (materialized) scoreboard.sendPacket(TeamPacket.unregister(name), this);
+        scoreboard.fireEvent(viewer -> new TeamEvent.Unregister(viewer, scoreboard, this));
         registered = false;
     }
 
@@ -272,6 +346,27 @@ public class VelocityTeam implements ProxyTeam {
         @Nullable protected Boolean allowFriendlyFire;
         @Nullable protected Boolean canSeeFriendlyInvisibles;
 
+        /**
+         * Creates properties with values set in this builder, taking the rest from given properties.
+         *
+         * @param   properties
+         *          Properties to take values not set in this builder from
+         * @return  New properties with values of this builder applied
+         */
+        @NotNull
+        public TeamProperties applyTo(@NotNull TeamProperties properties) {
+            return new TeamProperties(
+                    displayName != null ? displayName : properties.getDisplayName(),
+                    prefix != null ? prefix : properties.getPrefix(),
+                    suffix != null ? suffix : properties.getSuffix(),
+                    nameVisibility != null ? nameVisibility : properties.getNameTagVisibility(),
+                    collisionRule != null ? collisionRule : properties.getCollisionRule(),
+                    color != null ? color : properties.getColor(),
+                    allowFriendlyFire != null ? allowFriendlyFire : properties.isAllowFriendlyFire(),
+                    canSeeFriendlyInvisibles != null ? canSeeFriendlyInvisibles : properties.isCanSeeFriendlyInvisibles()
+            );
+        }
+
         @NotNull
         @Override
         public PropertyBuilder displayName(@NotNull TextHolder displayName) {
@@ -0,0 +1,140 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard.downstream;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.proxy.data.TextHolderImpl;
+import com.velocitypowered.proxy.data.WeakInterner;
+import com.velocitypowered.proxy.scoreboard.TeamProperties;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares identical team properties and objective titles received from the same backend server
+ * between all players connected to it. Players on the same server usually receive the same
+ * teams and objectives, so instead of every downstream scoreboard keeping its own copy, they
+ * all point to a single immutable instance. When the state of one player diverges, their
+ * scoreboard simply points to a different instance, shared instances are never modified.
+ * <p>
+ * Values are only shared between players with the same protocol version, because that is
+ * what their content is compared by.
+ */
+public class DownstreamInterner {
+
+    /** Whether sharing is enabled */
+    private static boolean enabled = false;
+
+    /** Interners by backend server and protocol version */
+    private static final Map<Pool, DownstreamInterner> interners = new ConcurrentHashMap<>();
+
+    /** Shared team properties */
+    @NotNull
+    private final WeakInterner<TeamProperties> properties;
+
+    /** Shared objective titles */
+    @NotNull
+    private final WeakInterner<TextHolderImpl> titles;
+
+    private DownstreamInterner(@NotNull ProtocolVersion version) {
+        properties = new WeakInterner<>(p -> p.contentHashCode(version), (a, b) -> a.contentEquals(b, version));
+        titles = new WeakInterner<>(t -> t.contentHashCode(version), (a, b) -> a.contentEquals(b, version));
+    }
+
+    /**
+     * Sets whether identical values should be shared between players.
+     *
+     * @param   enabled
+     *          {@code true} to share values, {@code false} to keep a copy per player
+     */
+    public static void setEnabled(boolean enabled) {
+        DownstreamInterner.enabled = enabled;
+        if (!enabled) interners.clear();
+    }
+
+    /**
+     * Returns whether identical values are shared between players.
+     *
+     * @return  {@code true} if values are shared, {@code false} if not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns interner for given backend server and protocol version.
+     *
+     * @param   server
+     *          Name of the backend server
+     * @param   version
+     *          Protocol version of the player
+     * @return  Interner for given server and version
+     */
+    @NotNull
+    public static DownstreamInterner get(@NotNull String server, @NotNull ProtocolVersion version) {
+        return interners.computeIfAbsent(new Pool(server, version), pool -> new DownstreamInterner(version));
+    }
+
+    /**
+     * Returns amount of shared team properties and titles per backend server.
+     *
+     * @return  Amount of shared values per server
+     */
+    @NotNull
+    public static Map<String, Integer> getSharedValues() {
+        Map<String, Integer> shared = new TreeMap<>();
+        for (Map.Entry<Pool, DownstreamInterner> entry : interners.entrySet()) {
+            int size = entry.getValue().properties.size() + entry.getValue().titles.size();
+            shared.merge(entry.getKey().server(), size, Integer::sum);
+        }
+        return shared;
+    }
+
+    /**
+     * Returns shared instance of given team properties.
+     *
+     * @param   properties
+     *          Properties read from a packet
+     * @return  Shared instance with the same content
+     */
+    @NotNull
+    public TeamProperties intern(@NotNull TeamProperties properties) {
+        return this.properties.intern(properties);
+    }
+
+    /**
+     * Returns shared instance of given objective title.
+     *
+     * @param   title
+     *          Title read from a packet
+     * @return  Shared instance with the same content
+     */
+    @NotNull
+    public TextHolder intern(@NotNull TextHolder title) {
+        return titles.intern((TextHolderImpl) title);
+    }
+
+    private record Pool(@NotNull String server, @NotNull ProtocolVersion version) {
+    }
+}
@@ -22,7 +22,8 @@ package com.velocitypowered.proxy.scoreboard.downstream;
 
 import com.velocitypowered.api.TextHolder;
 import com.velocitypowered.api.scoreboard.*;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.data.NumberFormatEncoder;
+import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -100,6 +101,16 @@ public class DownstreamObjective implements Objective {
     @Override
     @Nullable
     public NumberFormat getNumberFormat() {
+        return NumberFormatEncoder.resolve(numberFormat);
+    }
+
+    /**
+     * Returns number format as it was read from the packet, which may not be decoded yet.
+     *
+     * @return  Number format as read from the packet
+     */
+    @Nullable
+    public NumberFormat getNumberFormatRaw() {
         return numberFormat;
     }
 
@@ -154,7 +165,7 @@ public class DownstreamObjective implements Objective {
      * @param   numberFormat
      *          Number formatter for score (1.20.3+)
      */
-    public void setScore(@NotNull String holder, int value, @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+    public void setScore(@NotNull String holder, int value, @Nullable TextHolderImpl displayName, @Nullable NumberFormat numberFormat) {
         scores.computeIfAbsent(holder, DownstreamScore::new).update(value, displayName, numberFormat);
     }
 
@@ -22,7 +22,8 @@ package com.velocitypowered.proxy.scoreboard.downstream;
 
 import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.api.scoreboard.Score;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.data.NumberFormatEncoder;
+import com.velocitypowered.proxy.data.TextHolderImpl;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -43,7 +44,7 @@ public class DownstreamScore implements Score {
 
     /** Holder's display name */
     @Nullable
-    private ComponentHolder displayName;
+    private TextHolderImpl displayName;
 
     /** Number format for score */
     @Nullable
@@ -69,7 +70,7 @@ public class DownstreamScore implements Score {
      * @param   numberFormat
      *          Number format for score
      */
-    public void update(int score, @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+    public void update(int score, @Nullable TextHolderImpl displayName, @Nullable NumberFormat numberFormat) {
         this.score = score;
         this.displayName = displayName;
         this.numberFormat = numberFormat;
@@ -89,17 +90,27 @@ public class DownstreamScore implements Score {
     @Override
     @Nullable
     public Component getDisplayName() {
-        return displayName == null ? null : displayName.getComponent();
+        return displayName == null ? null : displayName.getModernText();
     }
 
     @Nullable
-    public ComponentHolder getDisplayNameHolder() {
+    public TextHolderImpl getDisplayNameHolder() {
         return displayName;
     }
 
     @Override
     @Nullable
     public NumberFormat getNumberFormat() {
+        return NumberFormatEncoder.resolve(numberFormat);
+    }
+
+    /**
+     * Returns number format as it was read from the packet, which may not be decoded yet.
+     *
+     * @return  Number format as read from the packet
+     */
+    @Nullable
+    public NumberFormat getNumberFormatRaw() {
         return numberFormat;
     }
 
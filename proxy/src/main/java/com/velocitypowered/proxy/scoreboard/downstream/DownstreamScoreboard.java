@@ -25,11 +25,14 @@ import com.velocitypowered.api.event.scoreboard.ObjectiveEvent;
 import com.velocitypowered.api.event.scoreboard.ScoreboardEventSource;
 import com.velocitypowered.api.event.scoreboard.TeamEntryEvent;
 import com.velocitypowered.api.event.scoreboard.TeamEvent;
+import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.scoreboard.*;
 import com.velocitypowered.proxy.data.LoggerManager;
+import com.velocitypowered.proxy.data.NumberFormatEncoder;
+import com.velocitypowered.proxy.data.ScoreHolderIndex;
 import com.velocitypowered.proxy.data.StringCollection;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
@@ -51,6 +54,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DownstreamScoreboard implements Scoreboard {
 
+    /** Whether packets which would not change anything on the client should be dropped */
+    private static boolean dropRedundantPackets = true;
+
     /** Server to call events to */
     private final ScoreboardEventSource eventSource;
 
@@ -60,9 +66,15 @@ public class DownstreamScoreboard implements Scoreboard {
     /** Registered teams on the backend */
     private final Map<String, DownstreamTeam> teams = new ConcurrentHashMap<>();
 
+    /** Team of each entry, kept in sync with entries of teams */
+    private final Map<String, DownstreamTeam> teamEntries = new ConcurrentHashMap<>();
+
     /** Display slots assigned to objectives */
     private final Map<DisplaySlot, DownstreamObjective> displaySlots = new ConcurrentHashMap<>();
 
+    /** Objectives containing a score by score holder, kept in sync with scores of objectives */
+    private final ScoreHolderIndex<DownstreamObjective> holderIndex = new ScoreHolderIndex<>();
+
     /** Viewer this scoreboard view belongs to */
     @NotNull
     private final Player viewer;
@@ -80,6 +92,16 @@ public class DownstreamScoreboard implements Scoreboard {
         this.viewer = viewer;
     }
 
+    /**
+     * Sets whether packets which would not change anything on the client should be dropped.
+     *
+     * @param   dropRedundantPackets
+     *          {@code true} to drop redundant packets, {@code false} to forward them
+     */
+    public static void setDropRedundantPackets(boolean dropRedundantPackets) {
+        DownstreamScoreboard.dropRedundantPackets = dropRedundantPackets;
+    }
+
     /**
      * Handles incoming objective packet coming from backend and updates tracked values.
      *
@@ -110,6 +132,9 @@ public class DownstreamScoreboard implements Scoreboard {
                     return true;
                 }
                 displaySlots.entrySet().removeIf(entry -> entry.getValue().getName().equals(packet.getObjectiveName()));
+                for (DownstreamScore score : removed.getAllScores()) {
+                    holderIndex.remove(score.getHolder(), removed);
+                }
                 eventSource.fireEvent(new ObjectiveEvent.Unregister(viewer, this, removed));
             }
             case UPDATE -> {
@@ -185,20 +210,21 @@ public class DownstreamScoreboard implements Scoreboard {
     }
 
     private boolean handleSet(@NotNull String objectiveName, @NotNull String holder, int value,
-                              @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+                              @Nullable TextHolderImpl displayName, @Nullable NumberFormat numberFormat) {
         DownstreamObjective objective = objectives.get(objectiveName);
         if (objective == null) {
             LoggerManager.invalidDownstreamPacket(viewer, "Cannot set score \"" + holder + "\" for unknown objective \"" + objectiveName + "\"");
             return true;
         } else {
             objective.setScore(holder, value, displayName, numberFormat);
+            holderIndex.add(holder, objective);
             return false;
         }
     }
 
     private boolean handleReset(@Nullable String objectiveName, @NotNull String holder) {
         if (objectiveName == null || objectiveName.isEmpty()) {
-            for (DownstreamObjective objective : objectives.values()) {
+            for (DownstreamObjective objective : holderIndex.removeAll(holder)) {
                 objective.removeScore(holder);
             }
         } else {
@@ -208,6 +234,7 @@ public class DownstreamScoreboard implements Scoreboard {
                 return true;
             } else {
                 objective.removeScore(holder);
+                holderIndex.remove(holder, objective);
             }
         }
         return false;
@@ -229,6 +256,7 @@ public class DownstreamScoreboard implements Scoreboard {
                     LoggerManager.invalidDownstreamPacket(viewer, "This scoreboard already contains team \"" + packet.getName() + "\"");
                     return true;
                 } else {
+                    indexEntries(team, entries);
                     eventSource.fireEvent(new TeamEvent.Register(viewer, this, team));
                 }
             }
@@ -238,6 +266,7 @@ public class DownstreamScoreboard implements Scoreboard {
                     LoggerManager.invalidDownstreamPacket(viewer, "This scoreboard does not contain team \"" + packet.getName() + "\", cannot unregister");
                     return true;
                 }
+                unindexEntries(removed, removed.getEntryCollection());
                 eventSource.fireEvent(new TeamEvent.Unregister(viewer, this, removed));
             }
             case UPDATE -> {
@@ -255,9 +284,7 @@ public class DownstreamScoreboard implements Scoreboard {
                     LoggerManager.invalidDownstreamPacket(viewer, "This scoreboard does not contain team \"" + packet.getName() + "\", cannot add entries");
                     return true;
                 } else {
-                    for (DownstreamTeam allTeams : teams.values()) {
-                        allTeams.removeEntriesIfPresent(entries);
-                    }
+                    indexEntries(team, entries);
                     team.addEntries(entries);
                     if (entries.getEntry() != null) {
                         eventSource.fireEvent(new TeamEntryEvent.Add(viewer, this, team, entries.getEntry()));
@@ -275,6 +302,7 @@ public class DownstreamScoreboard implements Scoreboard {
                     return true;
                 } else {
                     team.removeEntries(viewer, entries);
+                    unindexEntries(team, entries);
                     if (entries.getEntry() != null) {
                         eventSource.fireEvent(new TeamEntryEvent.Remove(viewer, this, team, entries.getEntry()));
                     } else {
@@ -288,6 +316,178 @@ public class DownstreamScoreboard implements Scoreboard {
         return false;
     }
 
+    /**
+     * Returns {@code true} if this objective packet would not change anything, because the
+     * objective already has the same values. Must be called before the packet is handled.
+     *
+     * @param   packet
+     *          Objective packet coming from backend
+     * @return  {@code true} if packet is redundant and can be dropped, {@code false} if not
+     */
+    public boolean isRedundant(@NotNull ObjectivePacket packet) {
+        if (!dropRedundantPackets || packet.getAction() != ObjectivePacket.ObjectiveAction.UPDATE) return false;
+        DownstreamObjective objective = objectives.get(packet.getObjectiveName());
+        if (objective == null) return false;
+        ProtocolVersion version = viewer.getProtocolVersion();
+        return objective.getHealthDisplay() == packet.getHealthDisplay() &&
+                NumberFormatEncoder.formatsEqual(objective.getNumberFormatRaw(), packet.getNumberFormat(), version) &&
+                ((TextHolderImpl) objective.getTitle()).contentEquals(packet.getTitle(), version);
+    }
+
+    /**
+     * Returns {@code true} if this display objective packet would not change anything, because
+     * the objective is already displayed in the slot. Must be called before the packet is handled.
+     *
+     * @param   packet
+     *          Display objective packet coming from backend
+     * @return  {@code true} if packet is redundant and can be dropped, {@code false} if not
+     */
+    public boolean isRedundant(@NotNull DisplayObjectivePacket packet) {
+        if (!dropRedundantPackets) return false;
+        DownstreamObjective objective = displaySlots.get(packet.getPosition());
+        return objective != null && objective.getName().equals(packet.getObjectiveName());
+    }
+
+    /**
+     * Returns {@code true} if this score packet would not change anything, because the score
+     * already has the same value or is not present when resetting. Must be called before
+     * the packet is handled.
+     *
+     * @param   packet
+     *          Score packet coming from backend
+     * @return  {@code true} if packet is redundant and can be dropped, {@code false} if not
+     */
+    public boolean isRedundant(@NotNull ScorePacket packet) {
+        if (!dropRedundantPackets) return false;
+        if (packet.getAction() == ScorePacket.ScoreAction.SET) {
+            return isRedundantSet(packet.getObjectiveName(), packet.getScoreHolder(), packet.getValue(), null, null);
+        } else {
+            return isRedundantReset(packet.getObjectiveName(), packet.getScoreHolder());
+        }
+    }
+
+    /**
+     * Returns {@code true} if this set score packet would not change anything, because the score
+     * already has the same values. Must be called before the packet is handled.
+     *
+     * @param   packet
+     *          Set score packet coming from backend
+     * @return  {@code true} if packet is redundant and can be dropped, {@code false} if not
+     */
+    public boolean isRedundant(@NotNull ScoreSetPacket packet) {
+        if (!dropRedundantPackets) return false;
+        return isRedundantSet(packet.getObjectiveName(), packet.getScoreHolder(), packet.getValue(),
+                packet.getDisplayName(), packet.getNumberFormat());
+    }
+
+    /**
+     * Returns {@code true} if this reset score packet would not change anything, because the
+     * score is not present. Must be called before the packet is handled.
+     *
+     * @param   packet
+     *          Reset score packet coming from backend
+     * @return  {@code true} if packet is redundant and can be dropped, {@code false} if not
+     */
+    public boolean isRedundant(@NotNull ScoreResetPacket packet) {
+        if (!dropRedundantPackets) return false;
+        return isRedundantReset(packet.getObjectiveName(), packet.getScoreHolder());
+    }
+
+    private boolean isRedundantSet(@NotNull String objectiveName, @NotNull String holder, int value,
+                                   @Nullable TextHolderImpl displayName, @Nullable NumberFormat numberFormat) {
+        DownstreamObjective objective = objectives.get(objectiveName);
+        if (objective == null) return false;
+        DownstreamScore score = (DownstreamScore) objective.getScore(holder);
+        if (score == null) return false;
+        ProtocolVersion version = viewer.getProtocolVersion();
+        return score.getScore() == value &&
+                TextHolderImpl.textsEqual(score.getDisplayNameHolder(), displayName, version) &&
+                NumberFormatEncoder.formatsEqual(score.getNumberFormatRaw(), numberFormat, version);
+    }
+
+    private boolean isRedundantReset(@Nullable String objectiveName, @NotNull String holder) {
+        if (objectiveName == null || objectiveName.isEmpty()) {
+            return holderIndex.get(holder).isEmpty();
+        }
+        DownstreamObjective objective = objectives.get(objectiveName);
+        return objective != null && objective.getScore(holder) == null;
+    }
+
+    /**
+     * Returns {@code true} if this team packet would not change anything, because the team
+     * already has the same properties or already contains all added entries. Must be called
+     * before the packet is handled.
+     *
+     * @param   packet
+     *          Team packet coming from backend
+     * @return  {@code true} if packet is redundant and can be dropped, {@code false} if not
+     */
+    public boolean isRedundant(@NotNull TeamPacket packet) {
+        if (!dropRedundantPackets) return false;
+        DownstreamTeam team = teams.get(packet.getName());
+        if (team == null) return false;
+        switch (packet.getAction()) {
+            case UPDATE -> {
+                return team.getProperties().contentEquals(packet.getProperties(), viewer.getProtocolVersion());
+            }
+            case ADD_PLAYER -> {
+                StringCollection entries = packet.getEntries();
+                if (entries.getEntry() != null) return teamEntries.get(entries.getEntry()) == team;
+                for (String entry : entries.getEntries()) {
+                    if (teamEntries.get(entry) != team) return false;
+                }
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Assigns entries to given team. Entries which were in a different team are removed from it,
+     * same as the client does.
+     *
+     * @param   team
+     *          Team the entries were added to
+     * @param   entries
+     *          Added entries
+     */
+    private void indexEntries(@NotNull DownstreamTeam team, @NotNull StringCollection entries) {
+        if (entries.getEntry() != null) {
+            indexEntry(team, entries.getEntry());
+        } else {
+            for (String entry : entries.getEntries()) {
+                indexEntry(team, entry);
+            }
+        }
+    }
+
+    private void indexEntry(@NotNull DownstreamTeam team, @NotNull String entry) {
+        DownstreamTeam previous = teamEntries.put(entry, team);
+        if (previous != null && previous != team) {
+            previous.getEntryCollection().remove(entry);
+        }
+    }
+
+    /**
+     * Removes entries of given team from the entry index.
+     *
+     * @param   team
+     *          Team the entries were removed from
+     * @param   entries
+     *          Removed entries
+     */
+    private void unindexEntries(@NotNull DownstreamTeam team, @NotNull StringCollection entries) {
+        if (entries.getEntry() != null) {
+            teamEntries.remove(entries.getEntry(), team);
+        } else {
+            for (String entry : entries.getEntries()) {
+                teamEntries.remove(entry, team);
+            }
+        }
+    }
+
     @Override
     @Nullable
     public DownstreamObjective getObjective(@NotNull DisplaySlot displaySlot) {
@@ -318,6 +518,12 @@ public class DownstreamScoreboard implements Scoreboard {
         return Collections.unmodifiableCollection(teams.values());
     }
 
+    @Override
+    @Nullable
+    public DownstreamTeam getTeamByEntry(@NotNull String entry) {
+        return teamEntries.get(entry);
+    }
+
     @NotNull
     public Collection<DownstreamTeam> getDownstreamTeams() {
         return teams.values();
@@ -329,6 +535,9 @@ public class DownstreamScoreboard implements Scoreboard {
     public void clear() {
         objectives.clear();
         teams.clear();
+        teamEntries.clear();
+        displaySlots.clear();
+        holderIndex.clear();
     }
 
     public void dump() {
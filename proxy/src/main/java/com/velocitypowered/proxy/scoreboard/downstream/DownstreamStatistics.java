@@ -0,0 +1,88 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard.downstream;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of backend scoreboard packets per backend server, so operators can see
+ * how much traffic was saved by dropping packets which would not change anything.
+ */
+public class DownstreamStatistics {
+
+    /** Amount of received scoreboard packets per server */
+    private static final Map<String, LongAdder> receivedPackets = new ConcurrentHashMap<>();
+
+    /** Amount of dropped redundant scoreboard packets per server */
+    private static final Map<String, LongAdder> droppedPackets = new ConcurrentHashMap<>();
+
+    /**
+     * Counts a scoreboard packet received from given server.
+     *
+     * @param   server
+     *          Name of the server which sent the packet
+     */
+    public static void packetReceived(@NotNull String server) {
+        receivedPackets.computeIfAbsent(server, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Counts a redundant scoreboard packet from given server which was dropped.
+     *
+     * @param   server
+     *          Name of the server which sent the packet
+     */
+    public static void packetDropped(@NotNull String server) {
+        droppedPackets.computeIfAbsent(server, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns amount of received scoreboard packets per server, sorted by server name.
+     *
+     * @return  Amount of received packets per server
+     */
+    @NotNull
+    public static Map<String, Long> getReceivedPackets() {
+        return snapshot(receivedPackets);
+    }
+
+    /**
+     * Returns amount of dropped redundant scoreboard packets per server, sorted by server name.
+     *
+     * @return  Amount of dropped packets per server
+     */
+    @NotNull
+    public static Map<String, Long> getDroppedPackets() {
+        return snapshot(droppedPackets);
+    }
+
+    @NotNull
+    private static Map<String, Long> snapshot(@NotNull Map<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((server, counter) -> snapshot.put(server, counter.sum()));
+        return snapshot;
+    }
+}
@@ -47,7 +47,7 @@ public class DownstreamTeam implements Team {
     private final String name;
 
     /**
-     * Team properties
+     * Team properties, which may be shared with other players and must not be modified
      */
     @NotNull
     private TeamProperties properties;
@@ -183,15 +183,6 @@ public class DownstreamTeam implements Team {
         return entries;
     }
 
-    /**
-     * Removes entries from team.
-     *
-     * @param entries Entries to remove
-     */
-    public void removeEntriesIfPresent(@NotNull StringCollection entries) {
-        this.entries.removeAll(entries);
-    }
-
     public void dump() {
         System.out.println("  " + name + ":");
         System.out.println("    DisplayName: " + properties.getDisplayName());
@@ -0,0 +1,109 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk removal through entries of a collection, which are a list up to 8 entries
+ * and an {@link OrderedStringSet} above that.
+ */
+class StringCollectionTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {6, 40})
+    void removeIf(int size) {
+        Collection<String> entries = collection(size).getEntries();
+        assertTrue(entries.removeIf(entry -> index(entry) % 2 == 0));
+        assertEquals(expected(size, index -> index % 2 != 0), new ArrayList<>(entries));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {6, 40})
+    void removeAll(int size) {
+        Collection<String> entries = collection(size).getEntries();
+        assertTrue(entries.removeAll(Set.of("entry0", "entry3", "entry9")));
+        assertEquals(expected(size, index -> index != 0 && index != 3 && index != 9), new ArrayList<>(entries));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {6, 40})
+    void retainAll(int size) {
+        Collection<String> entries = collection(size).getEntries();
+        assertTrue(entries.retainAll(Set.of("entry1", "entry5")));
+        assertEquals(List.of("entry1", "entry5"), new ArrayList<>(entries));
+        assertTrue(entries.contains("entry5"));
+        assertFalse(entries.contains("entry0"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {6, 40})
+    void iteratorRemove(int size) {
+        Collection<String> entries = collection(size).getEntries();
+        Iterator<String> iterator = entries.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        assertTrue(entries.isEmpty());
+
+        // Removed elements only leave holes, adding must still work afterwards
+        entries.add("again");
+        assertEquals(List.of("again"), new ArrayList<>(entries));
+    }
+
+    private static StringCollection collection(int size) {
+        StringCollection collection = new StringCollection();
+        for (int i = 0; i < size; i++) {
+            collection.add("entry" + i);
+        }
+        return collection;
+    }
+
+    private static List<String> expected(int size, IntPredicate filter) {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (filter.test(i)) expected.add("entry" + i);
+        }
+        return expected;
+    }
+
+    private static int index(String entry) {
+        return Integer.parseInt(entry.substring("entry".length()));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import com.velocitypowered.api.network.ProtocolVersion;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Content comparison of the same text stored as a component, a deserialized holder
+ * and encoded bytes, which must be equal and hash the same.
+ */
+class TextHolderImplTest {
+
+    @ParameterizedTest
+    @EnumSource(value = ProtocolVersion.class, names = {"MINECRAFT_1_16", "MINECRAFT_1_20_3", "MINECRAFT_1_21"})
+    void storageFormsAreInterchangeable(ProtocolVersion version) {
+        TextHolderImpl component = new TextHolderImpl(Component.text("Title", NamedTextColor.GOLD));
+        boolean retainEncoded = TextHolderImpl.isRetainEncoded();
+        try {
+            TextHolderImpl.setRetainEncoded(false);
+            TextHolderImpl holder = reread(component, version);
+            TextHolderImpl.setRetainEncoded(true);
+            TextHolderImpl raw = reread(component, version);
+            for (TextHolderImpl a : List.of(component, holder, raw)) {
+                for (TextHolderImpl b : List.of(component, holder, raw)) {
+                    assertTrue(a.contentEquals(b, version));
+                    assertEquals(a.contentHashCode(version), b.contentHashCode(version));
+                }
+            }
+        } finally {
+            TextHolderImpl.setRetainEncoded(retainEncoded);
+        }
+    }
+
+    private static TextHolderImpl reread(TextHolderImpl text, ProtocolVersion version) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            text.write(buf, version);
+            return TextHolderImpl.read(buf, version);
+        } finally {
+            buf.release();
+        }
+    }
+}
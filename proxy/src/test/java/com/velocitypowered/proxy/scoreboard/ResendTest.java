@@ -0,0 +1,131 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.event.scoreboard.ScoreboardEventSource;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import com.velocitypowered.proxy.protocol.StateRegistry;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.TeamPacket;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ResendTest {
+
+    /** Amount of held back packets exceeding the limit of a frozen scoreboard */
+    private static final int OVERFLOWING_PACKETS = 4097;
+
+    /** Team registrations written to the client by team name */
+    private final Map<String, Integer> registered = new HashMap<>();
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        TestViewers.init();
+        registerTeamPacket();
+        VelocityScoreboard.setFreezeTimeout(0);
+    }
+
+    @Test
+    void overflowResendsEveryTeamOnce() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        VelocityScoreboard scoreboard = new VelocityScoreboard(mock(ScoreboardEventSource.class), TestViewers.player(channel, this::record),
+                mock(DownstreamScoreboard.class));
+
+        // Same order as on server switch, resend is scheduled right after freezing
+        scoreboard.freeze();
+        channel.eventLoop().execute(scoreboard::resend);
+
+        // Overflowing the held back packets resends the scoreboard before the scheduled task runs
+        for (int i = 0; i < OVERFLOWING_PACKETS; i++) {
+            scoreboard.registerTeam(scoreboard.teamBuilder("team" + i).entry("player" + i));
+        }
+        assertRegisteredOnce(OVERFLOWING_PACKETS);
+
+        // Scheduled resend must not send the scoreboard again
+        channel.runPendingTasks();
+        assertRegisteredOnce(OVERFLOWING_PACKETS);
+
+        // Scoreboard is no longer frozen, new packets are written right away
+        scoreboard.registerTeam(scoreboard.teamBuilder("another").entry("another"));
+        assertEquals(OVERFLOWING_PACKETS + 1, registered.size());
+        assertEquals(1, registered.get("another"));
+        channel.finishAndReleaseAll();
+    }
+
+    private void assertRegisteredOnce(int teams) {
+        assertEquals(teams, registered.size(), "Amount of registered teams");
+        for (Map.Entry<String, Integer> entry : registered.entrySet()) {
+            assertEquals(1, entry.getValue(), "Registrations of team " + entry.getKey());
+        }
+    }
+
+    /**
+     * Records a written team registration, decoding it first if it was written encoded.
+     *
+     * @param   message
+     *          Packet or encoded packet written to the connection
+     */
+    private void record(Object message) {
+        try {
+            TeamPacket packet;
+            if (message instanceof ByteBuf buf) {
+                ProtocolUtils.readVarInt(buf);
+                packet = new TeamPacket();
+                packet.decode(buf, ProtocolUtils.Direction.CLIENTBOUND, VelocityScoreboard.MAXIMUM_SUPPORTED_VERSION);
+            } else {
+                packet = (TeamPacket) message;
+            }
+            if (packet.getAction() == TeamPacket.TeamAction.REGISTER) registered.merge(packet.getName(), 1, Integer::sum);
+        } finally {
+            ReferenceCountUtil.release(message);
+        }
+    }
+
+    /**
+     * Registers team packet into the play state, so the resend can encode it. The plugin
+     * registers all scoreboard packets the same way on startup.
+     */
+    private static void registerTeamPacket() throws Exception {
+        Field field = StateRegistry.class.getDeclaredField("clientbound");
+        field.setAccessible(true);
+        StateRegistry.PacketRegistry clientbound = (StateRegistry.PacketRegistry) field.get(StateRegistry.PLAY);
+        Method map = StateRegistry.class.getDeclaredMethod("map", int.class, ProtocolVersion.class, ProtocolVersion.class, boolean.class);
+        map.setAccessible(true);
+        Object mapping = map.invoke(null, 0x60, ProtocolVersion.MINECRAFT_1_20_5, VelocityScoreboard.MAXIMUM_SUPPORTED_VERSION, false);
+        Method register = StateRegistry.PacketRegistry.class.getDeclaredMethod("register", Class.class, Supplier.class, StateRegistry.PacketMapping[].class);
+        register.setAccessible(true);
+        StateRegistry.PacketMapping[] mappings = {(StateRegistry.PacketMapping) mapping};
+        register.invoke(clientbound, TeamPacket.class, (Supplier<TeamPacket>) TeamPacket::new, mappings);
+    }
+}
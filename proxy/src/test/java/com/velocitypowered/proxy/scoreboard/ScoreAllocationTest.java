@@ -0,0 +1,99 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.event.scoreboard.ScoreboardEventSource;
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.api.scoreboard.ProxyObjective;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreSetPacket;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures memory allocated by a score value update sent from the event loop of the viewer,
+ * which should only allocate the outbound packet.
+ */
+class ScoreAllocationTest {
+
+    /** Amount of updates to warm up with and to measure */
+    private static final int UPDATES = 200_000;
+
+    /** Allocation allowed per update, enough for the packet but not for the tasks and functions around it */
+    private static final long BYTES_PER_UPDATE = 48;
+
+    @BeforeAll
+    static void setUp() {
+        TestViewers.init();
+    }
+
+    @Test
+    void updateOnEventLoopOnlyAllocatesPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectedPlayer player = TestViewers.player(channel, message -> {});
+        VelocityScoreboard scoreboard = new VelocityScoreboard(mock(ScoreboardEventSource.class), player, mock(DownstreamScoreboard.class));
+        ProxyObjective objective = scoreboard.registerObjective(scoreboard.objectiveBuilder("test").displaySlot(DisplaySlot.SIDEBAR));
+        objective.setScore("holder", -1);
+        ScoreSetPacket packet = new ScoreSetPacket("holder", "test", 0, null, null);
+
+        for (int i = 0; i < UPDATES; i++) {
+            objective.setScore("holder", i);
+            callViewer(player, packet);
+        }
+
+        // Calls of the mocked player and connection allocate on their own, measure them separately
+        long start = allocatedBytes();
+        for (int i = 0; i < UPDATES; i++) {
+            callViewer(player, packet);
+        }
+        long viewer = allocatedBytes() - start;
+
+        start = allocatedBytes();
+        for (int i = 0; i < UPDATES; i++) {
+            objective.setScore("holder", UPDATES + i);
+        }
+        long updates = allocatedBytes() - start;
+
+        long perUpdate = (updates - viewer) / UPDATES;
+        assertTrue(perUpdate <= BYTES_PER_UPDATE, "Score update allocated " + perUpdate + " bytes");
+        channel.finishAndReleaseAll();
+    }
+
+    /**
+     * Makes the same calls of the viewer and its connection a score update on the event loop makes.
+     */
+    private static void callViewer(ConnectedPlayer player, ScoreSetPacket packet) {
+        player.getProtocolVersion();
+        player.getConnection();
+        player.getConnection().write(packet);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.proxy.connection.MinecraftConnection;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.data.RawTextHolderProvider;
+import com.velocitypowered.proxy.protocol.StateRegistry;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Viewers backed by an embedded channel for scoreboard tests. The event loop of an embedded
+ * channel runs tasks of the calling thread inline and submitted tasks on {@code runPendingTasks}.
+ */
+final class TestViewers {
+
+    private static boolean initialized;
+
+    private TestViewers() {
+    }
+
+    /**
+     * Sets the text holder provider once for all tests running in this JVM.
+     */
+    static synchronized void init() {
+        if (initialized) return;
+        new RawTextHolderProvider();
+        initialized = true;
+    }
+
+    /**
+     * Creates a player on the latest supported version whose connection passes everything
+     * written or delayed-written to given consumer.
+     *
+     * @param   channel
+     *          Channel providing the event loop
+     * @param   writes
+     *          Consumer of written packets and encoded buffers
+     * @return  Mocked player
+     */
+    static ConnectedPlayer player(EmbeddedChannel channel, Consumer<Object> writes) {
+        MinecraftConnection connection = mock(MinecraftConnection.class, withSettings().stubOnly());
+        when(connection.eventLoop()).thenReturn(channel.eventLoop());
+        when(connection.getChannel()).thenReturn(channel);
+        when(connection.getState()).thenReturn(StateRegistry.PLAY);
+        doAnswer(invocation -> {
+            writes.accept(invocation.getArgument(0));
+            return null;
+        }).when(connection).delayedWrite(any());
+        doAnswer(invocation -> {
+            writes.accept(invocation.getArgument(0));
+            return null;
+        }).when(connection).write(any());
+
+        ConnectedPlayer player = mock(ConnectedPlayer.class, withSettings().stubOnly());
+        when(player.getConnection()).thenReturn(connection);
+        when(player.getProtocolVersion()).thenReturn(VelocityScoreboard.MAXIMUM_SUPPORTED_VERSION);
+        when(player.getUsername()).thenReturn("Player");
+        return player;
+    }
+}